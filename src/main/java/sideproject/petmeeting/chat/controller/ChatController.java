@@ -1,48 +1,49 @@
 package sideproject.petmeeting.chat.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 import sideproject.petmeeting.chat.domain.ChatRoom;
 import sideproject.petmeeting.chat.dto.request.ChatRoomRequestDto;
 import sideproject.petmeeting.chat.dto.response.ChatRoomResponseDto;
+import sideproject.petmeeting.chat.dto.response.ChatUnreadResponseDto;
+import sideproject.petmeeting.chat.service.ChatPresenceService;
 import sideproject.petmeeting.chat.service.ChatRoomService;
 import sideproject.petmeeting.common.Response;
 import sideproject.petmeeting.common.ResponseResource;
 import sideproject.petmeeting.common.StatusEnum;
-import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.member.domain.Member;
-import sideproject.petmeeting.member.repository.MemberRepository;
-import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.security.UserDetailsImpl;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static sideproject.petmeeting.common.StatusEnum.CREATED;
 import static sideproject.petmeeting.common.StatusEnum.OK;
-import static sideproject.petmeeting.common.exception.ErrorCode.INVALID_TOKEN;
-import static sideproject.petmeeting.common.exception.ErrorCode.NEED_LOGIN;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/chat")
 public class ChatController {
+    private static final int MAX_ROOM_SIZE = 100;
     private final ChatRoomService chatRoomService;
-    private final TokenProvider tokenProvider;
-    private final MemberRepository memberRepository;
+    private final ChatPresenceService chatPresenceService;
 
     @PostMapping("/{meetingId}")
     public ResponseEntity createChatRoom(@PathVariable Long meetingId,
                                         @RequestBody @Valid ChatRoomRequestDto chatRoomRequestDto,
-                                         HttpServletRequest httpServletRequest,
+                                         @AuthenticationPrincipal UserDetailsImpl userDetails,
                                          Errors errors) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
@@ -54,8 +55,8 @@ public class ChatController {
             message.setData(errors);
             return new ResponseEntity<>(message, headers, BAD_REQUEST);
         }
-        // Token 검증
-        Member member = checkAuthentication(httpServletRequest);
+        // JwtFilter 에서 인증된 사용자
+        Member member = userDetails.getMember();
         ChatRoom chatRoom = chatRoomService.createChatRoom(member, meetingId, chatRoomRequestDto);
 
         ChatRoomResponseDto chatRoomResponseDto = ChatRoomResponseDto.builder()
@@ -74,18 +75,30 @@ public class ChatController {
 
     }
 
+    /**
+     * 참여한 채팅방 목록 조회
+     * @param userDetails : 로그인한 회원
+     * @param page : 페이지 번호(기본 0)
+     * @param size : 페이지 크기(기본 20, 최대 100)
+     * @return : 채팅방 목록, 다음 페이지가 있으면 next 링크 추가
+     */
     @GetMapping
-    public ResponseEntity getChatRoomList(HttpServletRequest httpServletRequest
-                                          ) {
+    public ResponseEntity getChatRoomList(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-
-        Member member = checkAuthentication(httpServletRequest);
-        List<ChatRoomResponseDto> chatRoomList = chatRoomService.getChatRoomList();
-        ResponseResource responseResource = new ResponseResource(chatRoomList);
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_ROOM_SIZE);
+        Slice<ChatRoomResponseDto> chatRoomList = chatRoomService.getChatRoomList(userDetails.getMember(), pageNumber, pageSize);
+        ResponseResource responseResource = new ResponseResource(chatRoomList.getContent());
         responseResource.add(linkTo(ChatController.class).withSelfRel());
+        if (chatRoomList.hasNext()) {
+            responseResource.add(linkTo(methodOn(ChatController.class)
+                    .getChatRoomList(null, pageNumber + 1, pageSize)).withRel("next"));
+        }
 
         message.setStatus(OK);
         message.setMessage("채팅방 조회 완료");
@@ -93,16 +106,47 @@ public class ChatController {
         return new ResponseEntity(message, headers, HttpStatus.OK);
     }
 
-    private Member checkAuthentication(HttpServletRequest httpServletRequest) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new BusinessException("로그인이 필요합니다.", NEED_LOGIN);
-        }
-        String accessToken = httpServletRequest.getHeader("Authorization").substring(7);
-        tokenProvider.validateToken(accessToken);
-        Member member = memberRepository.findByEmail(tokenProvider.getUserEmailByToken(accessToken)).orElse(null);
-        if (member == null) {
-            throw new BusinessException("올바르지 않은 토큰입니다.", INVALID_TOKEN);
-        }
-        return member;
+    /**
+     * 참여한 채팅방 별 읽지 않은 메시지 수 조회
+     * @param userDetails : 로그인한 회원
+     * @return : 채팅방 별 읽지 않은 메시지 수
+     */
+    @GetMapping("/unread")
+    public ResponseEntity getUnreadCounts(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Response message = new Response();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
+
+        List<ChatUnreadResponseDto> unreadList = chatPresenceService.getUnreadCounts(userDetails.getMember());
+        ResponseResource responseResource = new ResponseResource(unreadList);
+        responseResource.add(linkTo(methodOn(ChatController.class).getUnreadCounts(null)).withSelfRel());
+
+        message.setStatus(OK);
+        message.setMessage("읽지 않은 메세지 수 조회 완료");
+        message.setData(responseResource);
+        return new ResponseEntity(message, headers, HttpStatus.OK);
+    }
+
+    /**
+     * 채팅방 접속 중인 회원 조회 - 채팅방 참여자만 조회 가능
+     * @param roomId : 채팅방 id
+     * @param userDetails : 로그인한 회원
+     * @return : 접속 중인 회원 닉네임 목록
+     */
+    @GetMapping("/{roomId}/online")
+    public ResponseEntity getOnlineMembers(@PathVariable String roomId,
+                                           @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Response message = new Response();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
+
+        Set<String> onlineMembers = chatPresenceService.getOnlineMembers(userDetails.getMember(), roomId);
+        ResponseResource responseResource = new ResponseResource(onlineMembers);
+        responseResource.add(linkTo(methodOn(ChatController.class).getOnlineMembers(roomId, null)).withSelfRel());
+
+        message.setStatus(OK);
+        message.setMessage("채팅방 접속 회원 조회 완료");
+        message.setData(responseResource);
+        return new ResponseEntity(message, headers, HttpStatus.OK);
     }
 }
@@ -5,55 +5,66 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sideproject.petmeeting.chat.domain.ChatMessage;
 import sideproject.petmeeting.chat.dto.response.ChatMessageResponseDto;
 import sideproject.petmeeting.chat.repository.ChatMessageRepository;
 import sideproject.petmeeting.chat.service.ChatMessageService;
+import sideproject.petmeeting.chat.service.ChatPresenceService;
 import sideproject.petmeeting.common.Response;
 import sideproject.petmeeting.common.ResponseResource;
-import sideproject.petmeeting.common.exception.BusinessException;
-import sideproject.petmeeting.member.domain.Member;
-import sideproject.petmeeting.member.repository.MemberRepository;
-import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.security.UserDetailsImpl;
 
-import javax.servlet.http.HttpServlet;
-import javax.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static sideproject.petmeeting.common.StatusEnum.CREATED;
 import static sideproject.petmeeting.common.StatusEnum.OK;
-import static sideproject.petmeeting.common.exception.ErrorCode.INVALID_TOKEN;
-import static sideproject.petmeeting.common.exception.ErrorCode.NEED_LOGIN;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(value = "/api/message")
 public class ChatMessageController {
-    private final TokenProvider tokenProvider;
-    private final MemberRepository memberRepository;
+    private static final int MAX_MESSAGE_SIZE = 100;
+
     private final ChatMessageService chatMessageService;
+    private final ChatPresenceService chatPresenceService;
+
     @GetMapping("/{chatRoomId}")
     public ResponseEntity getMessageList(@PathVariable String chatRoomId,
-                                         HttpServletRequest httpServletRequest) {
+                                         @RequestParam(value = "before", required = false) Long beforeId,
+                                         @RequestParam(value = "size", defaultValue = "50") int size,
+                                         @AuthenticationPrincipal UserDetailsImpl userDetails) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
-        checkAuthentication(httpServletRequest);
 
         ResponseResource responseResource;
-        List<ChatMessageResponseDto> chatMessageList = chatMessageService.getMessageList(chatRoomId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGE_SIZE);
+        List<ChatMessageResponseDto> chatMessageList = chatMessageService.getMessageList(chatRoomId, beforeId, pageSize);
         responseResource = new ResponseResource(chatMessageList);
         if (chatMessageList.isEmpty()) {
             responseResource = new ResponseResource("Empty Message");
+        } else if (beforeId == null && userDetails != null) {
+            // 최신 메시지를 조회하면 읽음 처리
+            chatPresenceService.markRead(userDetails.getMember(), chatRoomId,
+                    chatMessageList.get(chatMessageList.size() - 1).getId());
         }
 
         responseResource.add(linkTo(ChatMessageController.class).withSelfRel());
+        // 조회한 개수만큼 채워진 경우 이전 메시지 조회 링크 추가
+        if (chatMessageList.size() == pageSize) {
+            responseResource.add(linkTo(methodOn(ChatMessageController.class)
+                    .getMessageList(chatRoomId, chatMessageList.get(0).getId(), pageSize, null)).withRel("previous"));
+        }
 
         message.setStatus(OK);
         message.setMessage("메세지 조회 완료");
@@ -61,16 +72,28 @@ public class ChatMessageController {
         return new ResponseEntity(message, headers, HttpStatus.OK);
     }
 
-    private Member checkAuthentication(HttpServletRequest httpServletRequest) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new BusinessException("로그인이 필요합니다.", NEED_LOGIN);
-        }
-        String accessToken = httpServletRequest.getHeader("Authorization").substring(7);
-        tokenProvider.validateToken(accessToken);
-        Member member = memberRepository.findByEmail(tokenProvider.getUserEmailByToken(accessToken)).orElse(null);
-        if (member == null) {
-            throw new BusinessException("올바르지 않은 토큰입니다.", INVALID_TOKEN);
-        }
-        return member;
+    /**
+     * 메시지 읽음 처리 - 실시간으로 받은 메시지를 읽은 경우 호출
+     * @param chatRoomId : 채팅방 id
+     * @param messageId : 마지막으로 읽은 메시지 id
+     * @param userDetails : 로그인한 회원
+     * @return : 처리 결과
+     */
+    @PostMapping("/{chatRoomId}/read")
+    public ResponseEntity markRead(@PathVariable String chatRoomId,
+                                   @RequestParam(value = "messageId") Long messageId,
+                                   @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Response message = new Response();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
+
+        chatPresenceService.markRead(userDetails.getMember(), chatRoomId, messageId);
+        ResponseResource responseResource = new ResponseResource(messageId);
+        responseResource.add(linkTo(ChatMessageController.class).withSelfRel());
+
+        message.setStatus(OK);
+        message.setMessage("메세지 읽음 처리 완료");
+        message.setData(responseResource);
+        return new ResponseEntity(message, headers, HttpStatus.OK);
     }
 }
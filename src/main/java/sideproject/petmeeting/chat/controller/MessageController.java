@@ -2,34 +2,34 @@ package sideproject.petmeeting.chat.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.chat.domain.ChatMessage;
 import sideproject.petmeeting.chat.domain.MessageType;
-import sideproject.petmeeting.chat.repository.ChatMessageRepository;
-import sideproject.petmeeting.chat.repository.ChatRoomRepository;
-import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.chat.pubsub.RedisPublisher;
+import sideproject.petmeeting.chat.service.ChatMessageIdGenerator;
+import sideproject.petmeeting.chat.service.ChatMessageWriter;
+import sideproject.petmeeting.config.WebSockConfig;
 
 @RequiredArgsConstructor
 @Controller
 @Slf4j
 public class MessageController {
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RedisPublisher redisPublisher;
+    private final SimpMessageSendingOperations messagingTemplate;
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final TokenProvider jwtTokenProvider;
-    private final ChannelTopic channelTopic;
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
 
     /**
      * websocket "/pub/chat/message"로 들어오는 메시징을 처리한다.
      */
     @MessageMapping("/chat/message")
-    @Transactional
     public void message(ChatMessage message) {
         log.info(message.getMessage());
         // 채팅방 입장시에는 대화명과 메시지를 자동으로 세팅한다.
@@ -37,15 +37,23 @@ public class MessageController {
             message.setSender("[알림]");
             message.setMessage(message.getSender() + "님이 입장하셨습니다.");
         }
-        // Websocket에 발행된 메시지를 redis로 발행(publish)
-        log.info("Message controller topic : {}", channelTopic.getTopic());
-        redisTemplate.convertAndSend(channelTopic.getTopic(), message);
+        // 발행 전에 id 발급 - 실시간으로 받은 메시지 id 로 읽음 처리
+        message.setId(chatMessageIdGenerator.nextId());
+        if (WebSockConfig.BROKER_MODE_RELAY.equals(brokerMode)) {
+            // 외부 브로커로 바로 전달 - 서버 간 전달은 브로커가 처리
+            messagingTemplate.convertAndSend(WebSockConfig.RELAY_ROOM_DESTINATION_PREFIX + message.getRoomId(), message);
+        } else {
+            // Websocket에 발행된 메시지를 채팅방 redis 채널로 발행(publish)
+            redisPublisher.publish(message);
+        }
         ChatMessage MySQLMessage = ChatMessage.builder()
+                .id(message.getId())
                 .type(message.getType())
                 .roomId(message.getRoomId())
                 .sender(message.getSender())
                 .message(message.getMessage())
                 .build();
-        chatMessageRepository.save(MySQLMessage);
+        // DB 저장은 ChatMessageWriter 에서 배치로 처리
+        chatMessageWriter.write(MySQLMessage);
     }
 }
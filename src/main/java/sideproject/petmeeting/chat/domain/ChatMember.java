@@ -13,6 +13,7 @@ import static javax.persistence.FetchType.LAZY;
 import static javax.persistence.GenerationType.IDENTITY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_chat_member_member_id_chat_room_id", columnList = "member_id, chat_room_id"))
 @Builder
 @Getter
 @NoArgsConstructor
@@ -10,12 +10,13 @@ import static javax.persistence.EnumType.STRING;
 @Getter
 @Setter
 @Entity
+@Table(indexes = @Index(name = "idx_chat_message_room_id_id", columnList = "room_id, id"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessage extends Timestamped {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Enumerated(value = STRING)
     private MessageType type; // 메시지 타입
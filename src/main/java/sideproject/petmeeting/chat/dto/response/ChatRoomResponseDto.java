@@ -1,10 +1,12 @@
 package sideproject.petmeeting.chat.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class ChatRoomResponseDto {
     private Long id;
     private Long meetingId;
@@ -0,0 +1,12 @@
+package sideproject.petmeeting.chat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class ChatUnreadResponseDto {
+    private String roomId;
+    private Long lastReadMessageId;
+    private long unreadCount;
+}
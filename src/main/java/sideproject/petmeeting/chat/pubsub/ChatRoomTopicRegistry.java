@@ -0,0 +1,145 @@
+package sideproject.petmeeting.chat.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅방 별 Redis 채널 구독 관리
+ * 이 서버에 STOMP 구독자가 있는 채팅방의 채널만 구독하고, 마지막 구독자가 나가면 구독 해제
+ * 외부 브로커(relay) 모드에서는 브로커가 서버 간 전달을 담당하므로 사용하지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class ChatRoomTopicRegistry {
+    public static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    private static final String ROOM_TOPIC_PREFIX = "chatroom:";
+
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final RedisSubscriber redisSubscriber;
+
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+    // roomId -> 로컬 구독 수
+    private final Map<String, Integer> roomSubscriberCounts = new HashMap<>();
+
+    /**
+     * 채팅방 Redis 채널
+     * @param roomId : 채팅방 id
+     * @return : 채팅방 채널
+     */
+    public static ChannelTopic topicOf(String roomId) {
+        return new ChannelTopic(ROOM_TOPIC_PREFIX + roomId);
+    }
+
+    /**
+     * 채팅방 Redis 채널 이름에서 채팅방 id 추출
+     * @param channel : 채널 이름
+     * @return : 채팅방 id, 채팅방 채널이 아니면 null
+     */
+    public static String roomIdOf(String channel) {
+        return channel.startsWith(ROOM_TOPIC_PREFIX) ? channel.substring(ROOM_TOPIC_PREFIX.length()) : null;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+                destination.substring(ROOM_DESTINATION_PREFIX.length()));
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 채팅방 구독 추가 - 이 서버의 첫 구독자이면 Redis 채널 구독
+     * @param sessionId : STOMP 세션 id
+     * @param subscriptionId : STOMP 구독 id
+     * @param roomId : 채팅방 id
+     */
+    public synchronized void subscribe(String sessionId, String subscriptionId, String roomId) {
+        String previousRoomId = sessionSubscriptions
+                .computeIfAbsent(sessionId, key -> new HashMap<>())
+                .put(subscriptionId, roomId);
+        if (previousRoomId != null) {
+            release(previousRoomId);
+        }
+
+        if (roomSubscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            redisMessageListener.addMessageListener(redisSubscriber, topicOf(roomId));
+            log.info("채팅방 채널 구독 : {}", roomId);
+        }
+    }
+
+    /**
+     * 채팅방 구독 해제
+     * @param sessionId : STOMP 세션 id
+     * @param subscriptionId : STOMP 구독 id
+     */
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+
+        String roomId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    /**
+     * 세션 종료 - 세션의 모든 채팅방 구독 해제
+     * @param sessionId : STOMP 세션 id
+     */
+    public synchronized void disconnect(String sessionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::release);
+    }
+
+    // 이 서버에서 채팅방을 구독 중인 STOMP 구독 수
+    public synchronized int getSubscriberCount(String roomId) {
+        return roomSubscriberCounts.getOrDefault(roomId, 0);
+    }
+
+
+    // 마지막 로컬 구독자가 나가면 Redis 채널 구독 해제
+    private void release(String roomId) {
+        Integer count = roomSubscriberCounts.computeIfPresent(roomId, (key, value) -> value > 1 ? value - 1 : null);
+        if (count == null) {
+            redisMessageListener.removeMessageListener(redisSubscriber, topicOf(roomId));
+            log.info("채팅방 채널 구독 해제 : {}", roomId);
+        }
+    }
+}
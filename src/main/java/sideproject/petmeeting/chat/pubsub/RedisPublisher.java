@@ -0,0 +1,39 @@
+package sideproject.petmeeting.chat.pubsub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import sideproject.petmeeting.chat.domain.ChatMessage;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RedisPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 채팅방 Redis 채널로 메시지 발행
+     * 구독자에게 전달할 JSON 으로 한 번만 인코딩하여 발행 - RedisSubscriber 는 다시 파싱하지 않고 그대로 전달
+     * @param chatMessage : 발행할 메시지
+     */
+    public void publish(ChatMessage chatMessage) {
+        byte[] channel = ChatRoomTopicRegistry.topicOf(chatMessage.getRoomId()).getTopic().getBytes(StandardCharsets.UTF_8);
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(chatMessage);
+        } catch (JsonProcessingException e) {
+            log.error("메세지 전송 오류 발생", e);
+            return;
+        }
+        redisTemplate.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(channel, payload));
+    }
+}
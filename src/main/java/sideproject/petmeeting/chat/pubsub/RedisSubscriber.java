@@ -1,32 +1,42 @@
 package sideproject.petmeeting.chat.pubsub;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
-import sideproject.petmeeting.chat.domain.ChatMessage;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class RedisSubscriber {
+public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
     private final SimpMessageSendingOperations messagingTemplate;
 
     /**
      * Redis 에서 메세지가 발행되면 대기하고 있던 Redis Subscriber 가 해당 메세지를 받아 처리
+     * 발행 시 JSON 으로 한 번 인코딩된 payload 를 다시 파싱하지 않고 그대로 구독자에게 전달
+     * 채팅방 id 는 채널 이름에서 확인
      */
-    public void sendMessage(String publishMessage) {
-        log.info("Redis Subscriber 실행");
-        try {
-            ChatMessage chatMessage = objectMapper.readValue(publishMessage, ChatMessage.class);
-            log.info(chatMessage.getRoomId());
-            messagingTemplate.convertAndSend("/sub/chat/room/" + chatMessage.getRoomId(), chatMessage);
-        } catch (JsonProcessingException e) {
-            log.error("메세지 전송 오류 발생", e);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String roomId = ChatRoomTopicRegistry.roomIdOf(channel);
+        if (roomId == null) {
+            log.error("알 수 없는 채널 : {}", channel);
+            return;
         }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(ChatRoomTopicRegistry.ROOM_DESTINATION_PREFIX + roomId,
+                MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
     }
 }
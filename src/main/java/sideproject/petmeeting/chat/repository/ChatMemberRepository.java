@@ -1,13 +1,43 @@
 package sideproject.petmeeting.chat.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.chat.domain.ChatMember;
-import sideproject.petmeeting.chat.domain.ChatRoom;
+import sideproject.petmeeting.chat.dto.response.ChatRoomResponseDto;
 import sideproject.petmeeting.member.domain.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
 
     Optional<ChatMember> findByMember(Member member);
+
+    // 회원이 참여한 채팅방 조회(Meeting 엔티티를 조회하지 않는 projection, 최근 생성된 채팅방 순)
+    @Query(value = "SELECT new sideproject.petmeeting.chat.dto.response.ChatRoomResponseDto(r.id, r.meeting.id, r.roomName) " +
+            "FROM ChatMember cm JOIN cm.chatRoom r WHERE cm.member.id = :memberId ORDER BY r.id DESC")
+    Slice<ChatRoomResponseDto> findChatRoomsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원이 참여한 채팅방의 roomId 조회
+    @Query("SELECT r.roomId FROM ChatMember cm JOIN cm.chatRoom r WHERE cm.member.id = :memberId")
+    List<String> findRoomIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 채팅방 참여 여부
+    boolean existsByChatRoomRoomIdAndMemberId(String roomId, Long memberId);
+
+    // 모임 참석 취소 시 채팅방 탈퇴
+    @Modifying
+    @Query("DELETE FROM ChatMember cm WHERE cm.member.id = :memberId " +
+            "AND cm.chatRoom.id IN (SELECT r.id FROM ChatRoom r WHERE r.meeting.id = :meetingId)")
+    int deleteByMeetingIdAndMemberId(@Param("meetingId") Long meetingId, @Param("memberId") Long memberId);
+
+    // 채팅방 참여자 보정 - 모임에 참석 중이지만 채팅방 참여자가 아닌 (채팅방 id, 회원 id)
+    @Query("SELECT r.id, a.member.id FROM ChatRoom r, Attendance a WHERE a.meeting = r.meeting AND r.id IN :chatRoomIds " +
+            "AND NOT EXISTS (SELECT cm.id FROM ChatMember cm WHERE cm.chatRoom = r AND cm.member = a.member)")
+    List<Object[]> findMissingAttendees(@Param("chatRoomIds") Collection<Long> chatRoomIds);
 }
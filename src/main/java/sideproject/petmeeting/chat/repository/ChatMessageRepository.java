@@ -1,11 +1,16 @@
 package sideproject.petmeeting.chat.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import sideproject.petmeeting.chat.domain.ChatMessage;
 
 import java.util.List;
 
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
 
-    List<ChatMessage> findByRoomId(String roomId);
+    // 채팅방 최신 메시지 조회
+    List<ChatMessage> findByRoomIdOrderByIdDesc(String roomId, Pageable pageable);
+
+    // 채팅방 이전 메시지 조회 - beforeId 보다 먼저 작성된 메시지
+    List<ChatMessage> findByRoomIdAndIdLessThanOrderByIdDesc(String roomId, Long beforeId, Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package sideproject.petmeeting.chat.repository;
+
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+
+    // 채팅방 별 읽지 않은 메시지 수 - 채팅방 별 마지막으로 읽은 메시지 id 이후의 메시지 수를 한 번의 GROUP BY 쿼리로 조회
+    Map<String, Long> countUnreadByRoomId(Map<String, Long> lastReadIds);
+}
@@ -0,0 +1,51 @@
+package sideproject.petmeeting.chat.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    // 한 쿼리의 조건 수 제한 - 참여한 채팅방이 많으면 나눠서 조회
+    private static final int MAX_ROOMS_PER_QUERY = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 채팅방 별 읽지 않은 메시지 수 조회
+     * (room_id = ? AND id > ?) 조건을 OR 로 묶어 (room_id, id) 인덱스 범위 조회 후 room_id 로 그룹화
+     * @param lastReadIds : 채팅방 id 별 마지막으로 읽은 메시지 id
+     * @return : 채팅방 id 별 읽지 않은 메시지 수(읽지 않은 메시지가 없는 채팅방은 포함하지 않음)
+     */
+    @Override
+    public Map<String, Long> countUnreadByRoomId(Map<String, Long> lastReadIds) {
+        Map<String, Long> unreadCounts = new HashMap<>();
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(lastReadIds.entrySet());
+        for (int from = 0; from < entries.size(); from += MAX_ROOMS_PER_QUERY) {
+            List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(from + MAX_ROOMS_PER_QUERY, entries.size()));
+
+            StringBuilder jpql = new StringBuilder("SELECT m.roomId, COUNT(m) FROM ChatMessage m WHERE ");
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    jpql.append(" OR ");
+                }
+                jpql.append("(m.roomId = :roomId").append(i).append(" AND m.id > :lastReadId").append(i).append(")");
+            }
+            jpql.append(" GROUP BY m.roomId");
+
+            TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter("roomId" + i, chunk.get(i).getKey());
+                query.setParameter("lastReadId" + i, chunk.get(i).getValue());
+            }
+            for (Object[] row : query.getResultList()) {
+                unreadCounts.put((String) row[0], (Long) row[1]);
+            }
+        }
+        return unreadCounts;
+    }
+}
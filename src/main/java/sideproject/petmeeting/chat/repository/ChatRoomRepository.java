@@ -1,11 +1,22 @@
 package sideproject.petmeeting.chat.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.chat.domain.ChatRoom;
 import sideproject.petmeeting.meeting.domain.Meeting;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByMeeting(Meeting meeting);
+
+    // 모임 채팅방 조회(모임 참석 시 채팅방 가입)
+    Optional<ChatRoom> findByMeetingId(Long meetingId);
+
+    // 채팅방 참여자 보정 - id 커서 이후의 채팅방 id
+    @Query("SELECT r.id FROM ChatRoom r WHERE r.id > :chatRoomId ORDER BY r.id ASC")
+    List<Long> findIdsAfter(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
 }
@@ -0,0 +1,77 @@
+package sideproject.petmeeting.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.chat.domain.ChatMember;
+import sideproject.petmeeting.chat.repository.ChatMemberRepository;
+import sideproject.petmeeting.chat.repository.ChatRoomRepository;
+import sideproject.petmeeting.common.migration.DataMigrationRunner;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 참여자 보정(한 번만 실행)
+ * 모임 참석 시 채팅방에 가입하기 전에는 채팅방 생성자만 참여자로 저장되었으므로, 모임 참석자 중 참여자가 아닌 회원을 채팅방에 가입
+ * 이후에는 모임 참석/참석 취소가 참여자를 함께 갱신하므로 DataMigrationRunner 로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMemberInitializer {
+    private static final String MIGRATION_NAME = "chat-member-backfill";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataMigrationRunner dataMigrationRunner;
+
+    /**
+     * 서버 시작 시 보정 기록이 없으면 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        dataMigrationRunner.runOnce(MIGRATION_NAME, this::backfill);
+    }
+
+    /**
+     * 채팅방을 id 커서로 일정 개수씩 나누어 참여자가 아닌 모임 참석자를 가입, 배치 마다 트랜잭션 커밋
+     */
+    public void backfill() {
+        long lastChatRoomId = 0L;
+        int inserted = 0;
+        List<Long> chatRoomIds;
+        do {
+            chatRoomIds = chatRoomRepository.findIdsAfter(lastChatRoomId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (chatRoomIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = chatRoomIds;
+            Integer count = transactionTemplate.execute(status -> insertMissingAttendees(batch));
+            inserted += count == null ? 0 : count;
+            lastChatRoomId = chatRoomIds.get(chatRoomIds.size() - 1);
+        } while (chatRoomIds.size() == BACKFILL_BATCH_SIZE);
+
+        log.info("채팅방 참여자 보정 완료 : {} 건", inserted);
+    }
+
+    private int insertMissingAttendees(List<Long> chatRoomIds) {
+        List<ChatMember> chatMembers = new ArrayList<>();
+        for (Object[] row : chatMemberRepository.findMissingAttendees(chatRoomIds)) {
+            chatMembers.add(ChatMember.builder()
+                    .chatRoom(chatRoomRepository.getReferenceById((Long) row[0]))
+                    .member(memberRepository.getReferenceById((Long) row[1]))
+                    .build());
+        }
+        chatMemberRepository.saveAll(chatMembers);
+        return chatMembers.size();
+    }
+}
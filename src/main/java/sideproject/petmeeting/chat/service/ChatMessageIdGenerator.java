@@ -0,0 +1,46 @@
+package sideproject.petmeeting.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 id 발급(Redis INCR) - 발행 시점에 id 를 정해 실시간으로 받은 메시지로도 읽음 처리할 수 있도록 함
+ * 모든 서버가 같은 key(chat:message:id)를 사용하므로 id 는 보낸 순서대로 증가
+ * key 가 없으면(최초 실행, Redis 초기화) DB 의 가장 큰 id 에 아직 저장되지 않은 메시지 몫(ID_RESERVE)을 더한 값부터 발급
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdGenerator {
+    static final String ID_KEY = "chat:message:id";
+    private static final long ID_RESERVE = 100_000;
+
+    // key 가 있을 때만 증가, 없으면 -1
+    private static final RedisScript<Long> NEXT_ID_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end " +
+                    "return -1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다음 메시지 id 발급
+     * @return : 메시지 id
+     */
+    public Long nextId() {
+        Long id = stringRedisTemplate.execute(NEXT_ID_SCRIPT, List.of(ID_KEY));
+        if (id != null && id > 0) {
+            return id;
+        }
+
+        // 여러 서버가 동시에 초기화해도 먼저 설정한 값 사용
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_message", Long.class);
+        stringRedisTemplate.opsForValue().setIfAbsent(ID_KEY, String.valueOf(maxId + ID_RESERVE));
+        return stringRedisTemplate.opsForValue().increment(ID_KEY);
+    }
+}
@@ -1,17 +1,24 @@
 package sideproject.petmeeting.chat.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.chat.domain.ChatMessage;
 import sideproject.petmeeting.chat.dto.response.ChatMessageResponseDto;
 import sideproject.petmeeting.chat.repository.ChatMessageRepository;
 import sideproject.petmeeting.common.exception.BusinessException;
-import sideproject.petmeeting.common.exception.ErrorCode;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.repository.MemberRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static sideproject.petmeeting.common.exception.ErrorCode.MEMBER_NOT_EXIST;
 
@@ -21,21 +28,47 @@ public class ChatMessageService {
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
 
-    public List<ChatMessageResponseDto> getMessageList(String chatRoomId) {
-        List<ChatMessage> chatMessageList = chatMessageRepository.findByRoomId(chatRoomId);
+    /**
+     * 채팅방 메시지 조회
+     * beforeId 가 없으면 최신 메시지, 있으면 beforeId 이전 메시지를 size 개수만큼 작성 순서대로 조회
+     * 보낸 사람 이미지는 메시지마다 조회하지 않고, 보낸 사람 목록을 한 번의 IN 쿼리로 조회
+     * @param chatRoomId : 조회할 채팅방 id
+     * @param beforeId : 이전 응답에서 가장 오래된 메시지 id, 첫 조회 시 null
+     * @param size : 조회할 메시지 수
+     * @return : 채팅방 메시지 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponseDto> getMessageList(String chatRoomId, Long beforeId, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        List<ChatMessage> chatMessageList = new ArrayList<>(beforeId == null
+                ? chatMessageRepository.findByRoomIdOrderByIdDesc(chatRoomId, pageable)
+                : chatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, beforeId, pageable));
+        Collections.reverse(chatMessageList);
+
+        Set<String> senders = chatMessageList.stream()
+                .map(ChatMessage::getSender)
+                .collect(Collectors.toSet());
+
+        Map<String, String> senderImageMap = new HashMap<>();
+        if (!senders.isEmpty()) {
+            for (Member member : memberRepository.findAllByNicknameIn(senders)) {
+                senderImageMap.put(member.getNickname(), member.getImage());
+            }
+        }
 
         List<ChatMessageResponseDto> messageResponseList = new ArrayList<>();
         for (ChatMessage chatMessage : chatMessageList) {
-            Member chatMember = memberRepository.findByNickname(chatMessage.getSender()).orElseThrow(
-                    () -> new BusinessException("적절하지 않은 접근 경로 입니다.", MEMBER_NOT_EXIST)
-            );
+            if (!senderImageMap.containsKey(chatMessage.getSender())) {
+                throw new BusinessException("적절하지 않은 접근 경로 입니다.", MEMBER_NOT_EXIST);
+            }
             messageResponseList.add(
                     ChatMessageResponseDto.builder()
                             .id(chatMessage.getId())
                             .type(chatMessage.getType())
                             .roomId(chatMessage.getRoomId())
                             .sender(chatMessage.getSender())
-                            .senderImage(chatMember.getImage())
+                            .senderImage(senderImageMap.get(chatMessage.getSender()))
                             .message(chatMessage.getMessage())
                             .build()
             );
@@ -0,0 +1,353 @@
+package sideproject.petmeeting.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.chat.domain.ChatMessage;
+import sideproject.petmeeting.chat.domain.MessageType;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장 - STOMP 처리 스레드에서 DB 저장을 기다리지 않도록 큐에 쌓은 뒤 전용 스레드에서 배치로 저장
+ * 배치 크기만큼 모이거나 flush-interval 이 지나면 JDBC batch insert 로 저장, 서버 종료 시 큐에 남은 메시지를 모두 저장
+ * 큐가 가득 찼거나 종료 중이라 받을 수 없는 메시지, 저장하지 못한 메시지는 Redis 대기열(chat:message:backlog)에 보관하고
+ * 주기적으로 다시 큐에 넣어 저장, max-redrives 번 다시 넣어도 저장하지 못한 메시지는 chat:message:dead-letter 로 이동
+ * 배치 저장이 실패하면 한 건씩 다시 저장해, 그 자체로 저장할 수 없는 메시지(길이 초과 등)만 dead-letter 로 이동
+ * 작성 시각은 큐에 넣을 때 기록하므로 나중에 저장된 메시지도 보낸 시각으로 저장
+ * id 는 발행 시점에 ChatMessageIdGenerator 로 발급한 값을 그대로 저장 - 이미 저장된 id 는 다시 저장하지 않음
+ * 큐 길이, 대기열 길이, 대기열로 넘어간 메시지 수, 실패한 배치 수 등은 Micrometer 로 노출(chat.message.writer.*)
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message (id, type, room_id, sender, message, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+    static final String BACKLOG_KEY = "chat:message:backlog";
+    static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final int maxRedrives;
+
+    // == Metrics ==//
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedBatchCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             StringRedisTemplate stringRedisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.message.writer.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.message.writer.batch-size:200}") int batchSize,
+                             @Value("${chat.message.writer.flush-interval:500}") long flushIntervalMillis,
+                             @Value("${chat.message.writer.max-attempts:3}") int maxAttempts,
+                             @Value("${chat.message.writer.retry-backoff:200}") long retryBackoffMillis,
+                             @Value("${chat.message.writer.max-redrives:5}") int maxRedrives) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRedrives = maxRedrives;
+
+        Gauge.builder("chat.message.writer.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message.writer.backlog.length", this, ChatMessageWriter::backlogLength)
+                .description("Redis 대기열에 보관된 메시지 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("chat.message.writer.written")
+                .description("저장한 메시지 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.message.writer.overflow")
+                .description("큐가 가득 차 Redis 대기열로 넘어간 메시지 수")
+                .register(meterRegistry);
+        this.failedBatchCounter = Counter.builder("chat.message.writer.failed.batches")
+                .description("재시도 후에도 저장하지 못한 배치 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.message.writer.dead.letter")
+                .description("저장을 포기하고 dead-letter 로 이동한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "chat-message-writer");
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+        // 저장 스레드가 끝난 뒤 큐에 들어온 메시지는 Redis 대기열에 보관
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("채팅 메시지 저장 미완료, 대기열에 보관 : {} 건", remaining.size());
+            backlog(remaining);
+        }
+    }
+
+    /**
+     * 저장할 메시지 추가 - 보낸 시각을 작성 시각으로 기록
+     * 메시지 id 는 발행 전에 ChatMessageIdGenerator 로 발급되어 있어야 함
+     * 큐가 가득 찼거나 종료 중인 경우에는 DB 에 직접 저장하지 않고 Redis 대기열에 보관
+     * @param chatMessage : 저장할 메시지
+     */
+    public void write(ChatMessage chatMessage) {
+        PendingMessage pendingMessage = PendingMessage.of(chatMessage, LocalDateTime.now());
+        if (running && queue.offer(pendingMessage)) {
+            return;
+        }
+
+        overflowCounter.increment();
+        log.warn("채팅 메시지 저장 대기열 초과, Redis 대기열에 보관 : roomId = {}", chatMessage.getRoomId());
+        backlog(List.of(pendingMessage));
+    }
+
+    /**
+     * Redis 대기열에 보관된 메시지를 큐의 여유 공간만큼 다시 넣어 저장
+     * max-redrives 번 다시 넣은 메시지는 dead-letter 로 이동
+     */
+    @Scheduled(initialDelayString = "${chat.message.writer.redrive-interval:10000}", fixedDelayString = "${chat.message.writer.redrive-interval:10000}")
+    public void redrive() {
+        try {
+            int capacity = queue.remainingCapacity() / 2;
+            for (int i = 0; running && i < capacity; i++) {
+                String value = stringRedisTemplate.opsForList().leftPop(BACKLOG_KEY);
+                if (value == null) {
+                    return;
+                }
+
+                PendingMessage pendingMessage = objectMapper.readValue(value, PendingMessage.class);
+                if (pendingMessage.getRedriveCount() >= maxRedrives) {
+                    log.error("채팅 메시지 재처리 횟수 초과, dead-letter 로 이동 : roomId = {}", pendingMessage.getRoomId());
+                    deadLetter(pendingMessage);
+                    continue;
+                }
+                if (!queue.offer(pendingMessage.redriven())) {
+                    stringRedisTemplate.opsForList().leftPush(BACKLOG_KEY, value);
+                    return;
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("채팅 메시지 대기열 재처리 실패", e);
+        }
+    }
+
+
+    private void run() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                PendingMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long waitMillis = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || waitMillis <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                insert(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 종료 시 큐에 남은 메시지 저장
+            queue.drainTo(batch);
+            for (int from = 0; from < batch.size(); from += batchSize) {
+                insert(batch.subList(from, Math.min(from + batchSize, batch.size())));
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 - 실패하면 간격을 두 배씩 늘려가며 재시도, 끝내 실패한 배치는 한 건씩 다시 저장
+     */
+    private void insert(List<PendingMessage> pendingMessages) {
+        if (pendingMessages.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batchInsert(pendingMessages);
+                writtenCounter.increment(pendingMessages.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    failedBatchCounter.increment();
+                    log.error("채팅 메시지 배치 저장 실패, 한 건씩 저장 : {} 건", pendingMessages.size(), e);
+                    insertEach(pendingMessages);
+                    return;
+                }
+                log.warn("채팅 메시지 저장 재시도 : {} 건, attempt = {}", pendingMessages.size(), attempt, e);
+            }
+
+            try {
+                Thread.sleep(retryBackoffMillis << (attempt - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                backlog(pendingMessages);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 건씩 저장 - 메시지 자체가 잘못되어 실패한 경우(NonTransientDataAccessException)는 dead-letter 로,
+     * 그 외(DB 장애 등)는 Redis 대기열로 보내 나중에 다시 저장, 이미 저장된 id(응답을 받지 못한 저장 등)는 건너뜀
+     */
+    private void insertEach(List<PendingMessage> pendingMessages) {
+        for (PendingMessage pendingMessage : pendingMessages) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pendingMessage));
+                writtenCounter.increment();
+            } catch (DuplicateKeyException e) {
+                log.warn("이미 저장된 채팅 메시지 : id = {}", pendingMessage.getId());
+            } catch (NonTransientDataAccessException e) {
+                log.error("채팅 메시지 저장 불가, dead-letter 로 이동 : roomId = {}", pendingMessage.getRoomId(), e);
+                deadLetter(pendingMessage);
+            } catch (RuntimeException e) {
+                backlog(List.of(pendingMessage));
+            }
+        }
+    }
+
+    // 한 트랜잭션으로 저장 - 실패하면 배치 전체가 롤백되어 한 건씩 다시 저장할 때 중복되지 않음
+    private void batchInsert(List<PendingMessage> pendingMessages) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, pendingMessages, pendingMessages.size(), this::bind));
+    }
+
+    private void bind(PreparedStatement ps, PendingMessage pendingMessage) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(pendingMessage.getCreatedAt());
+        ps.setLong(1, pendingMessage.getId());
+        ps.setString(2, pendingMessage.getType() == null ? null : pendingMessage.getType().name());
+        ps.setString(3, pendingMessage.getRoomId());
+        ps.setString(4, pendingMessage.getSender());
+        ps.setString(5, pendingMessage.getMessage());
+        ps.setTimestamp(6, createdAt);
+        ps.setTimestamp(7, createdAt);
+    }
+
+    private void backlog(List<PendingMessage> pendingMessages) {
+        List<String> values = new ArrayList<>(pendingMessages.size());
+        try {
+            for (PendingMessage pendingMessage : pendingMessages) {
+                values.add(objectMapper.writeValueAsString(pendingMessage));
+            }
+            stringRedisTemplate.opsForList().rightPushAll(BACKLOG_KEY, values);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // DB, Redis 모두 사용할 수 없는 경우
+            log.error("채팅 메시지 유실 : {} 건", pendingMessages.size(), e);
+        }
+    }
+
+    // 저장을 포기한 메시지 보관(최근 DEAD_LETTER_MAX_LENGTH 건)
+    private void deadLetter(PendingMessage pendingMessage) {
+        deadLetterCounter.increment();
+        try {
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(pendingMessage));
+            stringRedisTemplate.opsForList().trim(DEAD_LETTER_KEY, -DEAD_LETTER_MAX_LENGTH, -1);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("채팅 메시지 유실 : roomId = {}", pendingMessage.getRoomId(), e);
+        }
+    }
+
+    // Redis 대기열 길이(Redis 장애 시 NaN)
+    private double backlogLength() {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(BACKLOG_KEY);
+            return size == null ? 0 : size;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 저장 대기 메시지 - 보낸 시각과 Redis 대기열에서 다시 넣은 횟수를 함께 보관(대기열에는 JSON 으로 저장)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PendingMessage {
+        private Long id;
+        private MessageType type;
+        private String roomId;
+        private String sender;
+        private String message;
+        private LocalDateTime createdAt;
+        private int redriveCount;
+
+        static PendingMessage of(ChatMessage chatMessage, LocalDateTime createdAt) {
+            return new PendingMessage(chatMessage.getId(), chatMessage.getType(), chatMessage.getRoomId(), chatMessage.getSender(),
+                    chatMessage.getMessage(), createdAt, 0);
+        }
+
+        PendingMessage redriven() {
+            return new PendingMessage(id, type, roomId, sender, message, createdAt, redriveCount + 1);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package sideproject.petmeeting.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sideproject.petmeeting.chat.dto.response.ChatUnreadResponseDto;
+import sideproject.petmeeting.chat.repository.ChatMemberRepository;
+import sideproject.petmeeting.chat.repository.ChatMessageRepository;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 접속 상태 및 읽음 위치 관리(Redis)
+ * chat:online:{roomId} - 접속 중인 STOMP 구독({memberId}:{sessionId}:{subscriptionId}) 별 마지막 갱신 시각(ZSET)
+ * chat:last-read:{memberId} - 채팅방 별 마지막으로 읽은 메시지 id
+ * 구독을 가진 서버가 주기적으로 갱신 시각을 연장하므로, 서버가 비정상 종료되어 남은 구독은 ttl 이 지나면 접속 목록에서 제외
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+    private static final String ONLINE_KEY = "chat:online:";
+    private static final String LAST_READ_KEY = "chat:last-read:";
+
+    // 더 최신 메시지 id 인 경우에만 읽음 위치 갱신
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "if (not current) or tonumber(current) < tonumber(ARGV[2]) then " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) return 1 end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMemberRepository chatMemberRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final MemberRepository memberRepository;
+
+    // 이 서버의 구독 -> 채팅방 id
+    private final Map<String, String> localSubscriptions = new ConcurrentHashMap<>();
+
+    @Value("${chat.presence.ttl:90000}")
+    private long presenceTtlMillis;
+
+    /**
+     * 채팅방 입장 - 접속 목록에 구독 추가
+     * @param roomId : 채팅방 id
+     * @param memberId : 회원 id
+     * @param sessionId : STOMP 세션 id
+     * @param subscriptionId : STOMP 구독 id
+     */
+    public void enter(String roomId, Long memberId, String sessionId, String subscriptionId) {
+        String subscription = subscriptionOf(memberId, sessionId, subscriptionId);
+        localSubscriptions.put(subscription, roomId);
+        touch(roomId, Set.of(subscription), System.currentTimeMillis());
+    }
+
+    /**
+     * 채팅방 퇴장 - 접속 목록에서 구독 제거, 같은 회원의 다른 구독이 남아 있으면 계속 접속 중으로 조회
+     * @param roomId : 채팅방 id
+     * @param memberId : 회원 id
+     * @param sessionId : STOMP 세션 id
+     * @param subscriptionId : STOMP 구독 id
+     */
+    public void leave(String roomId, Long memberId, String sessionId, String subscriptionId) {
+        String subscription = subscriptionOf(memberId, sessionId, subscriptionId);
+        localSubscriptions.remove(subscription);
+        stringRedisTemplate.opsForZSet().remove(ONLINE_KEY + roomId, subscription);
+    }
+
+    /**
+     * 이 서버의 구독 갱신 시각 연장
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Map<String, Set<String>> subscriptionsByRoom = new HashMap<>();
+        localSubscriptions.forEach((subscription, roomId) ->
+                subscriptionsByRoom.computeIfAbsent(roomId, key -> new HashSet<>()).add(subscription));
+        subscriptionsByRoom.forEach((roomId, subscriptions) -> touch(roomId, subscriptions, now));
+    }
+
+    /**
+     * 채팅방 접속 중인 회원 조회 - 채팅방 참여자만 조회 가능
+     * @param member : 로그인한 회원
+     * @param roomId : 채팅방 id
+     * @return : 접속 중인 회원 닉네임 목록(현재 닉네임)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> getOnlineMembers(Member member, String roomId) {
+        if (!chatMemberRepository.existsByChatRoomRoomIdAndMemberId(roomId, member.getId())) {
+            throw new BusinessException("참여하지 않은 채팅방 입니다.", ErrorCode.CHAT_ROOM_ACCESS_DENIED);
+        }
+
+        String key = ONLINE_KEY + roomId;
+        stringRedisTemplate.opsForZSet().removeRangeByScore(key, 0, System.currentTimeMillis() - presenceTtlMillis);
+        Set<String> subscriptions = stringRedisTemplate.opsForZSet().range(key, 0, -1);
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> memberIds = subscriptions.stream()
+                .map(subscription -> Long.valueOf(subscription.substring(0, subscription.indexOf(':'))))
+                .collect(Collectors.toSet());
+        Set<String> nicknames = new TreeSet<>();
+        memberRepository.findAllById(memberIds).forEach(onlineMember -> nicknames.add(onlineMember.getNickname()));
+        return nicknames;
+    }
+
+    /**
+     * 읽음 위치 갱신
+     * @param member : 로그인한 회원
+     * @param roomId : 채팅방 id
+     * @param messageId : 마지막으로 읽은 메시지 id
+     */
+    public void markRead(Member member, String roomId, Long messageId) {
+        stringRedisTemplate.execute(MARK_READ_SCRIPT, List.of(LAST_READ_KEY + member.getId()),
+                roomId, String.valueOf(messageId));
+    }
+
+    /**
+     * 참여한 채팅방 별 읽지 않은 메시지 수 조회
+     * 마지막으로 읽은 메시지 id 이후의 메시지 수를 채팅방 전체에 대해 한 번의 GROUP BY 쿼리로 계산
+     * @param member : 로그인한 회원
+     * @return : 채팅방 별 읽지 않은 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public List<ChatUnreadResponseDto> getUnreadCounts(Member member) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<String, String> lastReadMap = hashOperations.entries(LAST_READ_KEY + member.getId());
+
+        Map<String, Long> lastReadIds = new LinkedHashMap<>();
+        for (String roomId : chatMemberRepository.findRoomIdsByMemberId(member.getId())) {
+            String lastRead = lastReadMap.get(roomId);
+            lastReadIds.put(roomId, lastRead == null ? 0L : Long.valueOf(lastRead));
+        }
+        Map<String, Long> unreadCounts = chatMessageRepository.countUnreadByRoomId(lastReadIds);
+
+        List<ChatUnreadResponseDto> unreadList = new ArrayList<>();
+        lastReadIds.forEach((roomId, lastReadMessageId) -> unreadList.add(
+                ChatUnreadResponseDto.builder()
+                        .roomId(roomId)
+                        .lastReadMessageId(lastReadMessageId)
+                        .unreadCount(unreadCounts.getOrDefault(roomId, 0L))
+                        .build()
+        ));
+        return unreadList;
+    }
+
+
+    private static String subscriptionOf(Long memberId, String sessionId, String subscriptionId) {
+        return memberId + ":" + sessionId + ":" + subscriptionId;
+    }
+
+    // 구독 갱신 시각 기록, 모든 서버의 갱신이 끊긴 채팅방 key 는 만료
+    private void touch(String roomId, Set<String> subscriptions, long now) {
+        String key = ONLINE_KEY + roomId;
+        Set<TypedTuple<String>> tuples = subscriptions.stream()
+                .map(subscription -> (TypedTuple<String>) new DefaultTypedTuple<>(subscription, (double) now))
+                .collect(Collectors.toSet());
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, Duration.ofMillis(presenceTtlMillis * 2));
+    }
+}
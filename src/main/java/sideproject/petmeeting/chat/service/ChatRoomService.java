@@ -1,6 +1,8 @@
 package sideproject.petmeeting.chat.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.chat.domain.ChatMember;
@@ -13,18 +15,22 @@ import sideproject.petmeeting.chat.repository.ChatRoomRepository;
 import sideproject.petmeeting.chat.repository.RedisChatRoomRepository;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.common.exception.ErrorCode;
+import sideproject.petmeeting.meeting.domain.Attendance;
 import sideproject.petmeeting.meeting.domain.Meeting;
+import sideproject.petmeeting.meeting.repository.AttendanceRepository;
 import sideproject.petmeeting.meeting.repository.MeetingRepository;
 import sideproject.petmeeting.member.domain.Member;
 
 import java.util.ArrayList;
 import java.util.List;
 
+
 @Service
 @RequiredArgsConstructor
 public class ChatRoomService {
 
     private final MeetingRepository meetingRepository;
+    private final AttendanceRepository attendanceRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final RedisChatRoomRepository redisChatRoomRepository;
@@ -42,29 +48,35 @@ public class ChatRoomService {
                 .roomId(redisChatRoom.getRoomId())
                 .roomName(redisChatRoom.getName())
                 .build();
-        // 게시글 작성자는 채팅방에 자동 가입
-        ChatMember chatMember = ChatMember.builder()
-                .chatRoom(chatRoom)
-                .member(member)
-                .build();
-
         ChatRoom savedChatRoom = chatRoomRepository.save(chatRoom);
-        chatMemberRepository.save(chatMember);
+
+        // 채팅방 생성자와 모임 참석자는 채팅방에 자동 가입, 이후 참석/참석 취소 시 MeetingService 에서 가입/탈퇴
+        List<ChatMember> chatMembers = new ArrayList<>();
+        chatMembers.add(ChatMember.builder()
+                .chatRoom(savedChatRoom)
+                .member(member)
+                .build());
+        for (Attendance attendance : attendanceRepository.findMemberFetchJoin(meetingId)) {
+            if (!attendance.getMember().getId().equals(member.getId())) {
+                chatMembers.add(ChatMember.builder()
+                        .chatRoom(savedChatRoom)
+                        .member(attendance.getMember())
+                        .build());
+            }
+        }
+        chatMemberRepository.saveAll(chatMembers);
         return savedChatRoom;
     }
 
-    public List<ChatRoomResponseDto> getChatRoomList() {
-        List<ChatRoom> chatRoomList = chatRoomRepository.findAll();
-        List<ChatRoomResponseDto> chatRoomResponseDtoList = new ArrayList<>();
-        for (ChatRoom chatRoom : chatRoomList) {
-            chatRoomResponseDtoList.add(
-                    ChatRoomResponseDto.builder()
-                            .id(chatRoom.getId())
-                            .meetingId(chatRoom.getMeeting().getId())
-                            .roomName(chatRoom.getRoomName())
-                            .build()
-            );
-        }
-        return chatRoomResponseDtoList;
+    /**
+     * 참여한 채팅방 목록 조회
+     * @param member : 로그인한 회원
+     * @param page : 페이지 번호
+     * @param size : 페이지 크기
+     * @return : 채팅방 목록
+     */
+    @Transactional(readOnly = true)
+    public Slice<ChatRoomResponseDto> getChatRoomList(Member member, int page, int size) {
+        return chatMemberRepository.findChatRoomsByMemberId(member.getId(), PageRequest.of(page, size));
     }
 }
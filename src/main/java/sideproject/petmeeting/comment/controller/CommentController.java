@@ -6,27 +6,25 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 import sideproject.petmeeting.comment.domain.Comment;
 import sideproject.petmeeting.comment.dto.request.CommentRequestDto;
 import sideproject.petmeeting.comment.dto.request.CommentUpdateRequest;
-import sideproject.petmeeting.comment.dto.response.CommentResponseDto;
+import sideproject.petmeeting.comment.dto.response.CommentPageResponseDto;
 import sideproject.petmeeting.comment.repository.CommentRepository;
 import sideproject.petmeeting.comment.service.CommentService;
 import sideproject.petmeeting.common.Response;
 import sideproject.petmeeting.common.ResponseResource;
 import sideproject.petmeeting.common.StatusEnum;
-import sideproject.petmeeting.post.repository.PostRepository;
-import sideproject.petmeeting.post.domain.Post;
+import sideproject.petmeeting.security.UserDetailsImpl;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Optional;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static sideproject.petmeeting.common.StatusEnum.CREATED;
 import static sideproject.petmeeting.common.StatusEnum.OK;
@@ -38,14 +36,13 @@ import static sideproject.petmeeting.common.StatusEnum.OK;
 public class CommentController {
 
     private final CommentService commentService;
-    private final PostRepository postRepository;
     private final CommentRepository commentRepository;
 
 
     @PostMapping(value = "/{postId}")
     public ResponseEntity createComment(@PathVariable Long postId,
                                         @RequestBody @Valid CommentRequestDto commentRequestDto,
-                                        HttpServletRequest httpServletRequest, Errors errors) {
+                                        @AuthenticationPrincipal UserDetailsImpl userDetails, Errors errors) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
@@ -56,7 +53,7 @@ public class CommentController {
             message.setData(errors);
             return new ResponseEntity<>(message, headers, BAD_REQUEST);
         }
-        Comment comment = commentService.createComment(postId, commentRequestDto, httpServletRequest);
+        Comment comment = commentService.createComment(postId, commentRequestDto, userDetails.getMember());
         ResponseResource responseResource = new ResponseResource(comment.getId());
         responseResource.add(linkTo(CommentController.class).slash(postId).withSelfRel());
         responseResource.add(linkTo(CommentController.class).slash(comment.getId()).withRel("edit comment"));
@@ -71,22 +68,18 @@ public class CommentController {
 
     @GetMapping(value = "/{postId}")
     public ResponseEntity getCommentList(@PathVariable Long postId,
-                                         HttpServletRequest httpServletRequest
-    ) {
+                                         @RequestParam(value = "cursor", required = false) String cursor) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        Optional<Post> optionalPost = postRepository.findById(postId);
-        if (optionalPost.isEmpty()) {
-            message.setStatus(StatusEnum.BAD_REQUEST);
-            message.setMessage("해당 게시글이 존재하지 않습니다.");
-            message.setData(postId);
-            return new ResponseEntity(message, headers, BAD_REQUEST);
+        CommentPageResponseDto commentPageResponseDto = commentService.getCommentList(postId, cursor);
+        ResponseResource responseResource = new ResponseResource(commentPageResponseDto);
+        responseResource.add(linkTo(methodOn(CommentController.class).getCommentList(postId, cursor)).withSelfRel());
+        if (commentPageResponseDto.getNextCursor() != null) {
+            responseResource.add(linkTo(methodOn(CommentController.class)
+                    .getCommentList(postId, commentPageResponseDto.getNextCursor())).withRel("next"));
         }
-        List<CommentResponseDto> commentList = commentService.getCommentList(postId, httpServletRequest);
-        ResponseResource responseResource = new ResponseResource(commentList);
-        responseResource.add(linkTo(CommentController.class).slash(postId).withSelfRel());
 
         message.setStatus(OK);
         message.setMessage("메세지 조회 완료");
@@ -98,7 +91,6 @@ public class CommentController {
     @PutMapping(value = "/{commentId}")
     public ResponseEntity editComment(@PathVariable Long commentId,
                                       @RequestBody CommentUpdateRequest commentUpdateRequest,
-                                      HttpServletRequest httpServletRequest,
                                       Errors errors) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
@@ -118,7 +110,7 @@ public class CommentController {
             message.setData(commentId);
             return new ResponseEntity(message, headers, BAD_REQUEST);
         }
-        commentService.updateComment(commentId, commentUpdateRequest, httpServletRequest);
+        commentService.updateComment(commentId, commentUpdateRequest);
         ResponseResource responseResource = new ResponseResource(commentId);
         responseResource.add(linkTo(CommentController.class).slash(commentId).withSelfRel());
         responseResource.add(linkTo(CommentController.class).slash(commentId).withRel("delete comment"));
@@ -129,8 +121,7 @@ public class CommentController {
     }
 
     @DeleteMapping(value = "/{commentId}")
-    public ResponseEntity deleteComment(@PathVariable Long commentId,
-                                        HttpServletRequest httpServletRequest) {
+    public ResponseEntity deleteComment(@PathVariable Long commentId) {
         Response message = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
@@ -142,7 +133,7 @@ public class CommentController {
             message.setData(commentId);
             return new ResponseEntity(message, headers, BAD_REQUEST);
         }
-        commentService.deleteComment(commentId, httpServletRequest);
+        commentService.deleteComment(commentId);
         ResponseResource responseResource = new ResponseResource(commentId);
         responseResource.add(linkTo(CommentController.class).slash(commentId).withSelfRel());
         message.setStatus(OK);
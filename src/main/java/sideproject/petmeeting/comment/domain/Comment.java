@@ -10,6 +10,7 @@ import sideproject.petmeeting.post.domain.Post;
 
 import javax.persistence.*;
 
+import static javax.persistence.FetchType.LAZY;
 import static javax.persistence.GenerationType.IDENTITY;
 
 @Entity
@@ -17,13 +18,17 @@ import static javax.persistence.GenerationType.IDENTITY;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 게시글 별 댓글 조회(id 커서 방식)
+        @Index(name = "idx_comment_post_id_id", columnList = "post_id, id")
+})
 public class Comment {
     @Id @GeneratedValue(strategy = IDENTITY)
     private Long id;
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
     private String content;
@@ -0,0 +1,33 @@
+package sideproject.petmeeting.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 댓글 커서 - 마지막으로 조회한 댓글 id
+ * 클라이언트에는 Base64 로 인코딩 된 문자열로만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+    private Long commentId;
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(commentId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            return new CommentCursor(Long.valueOf(raw));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("올바르지 않은 커서 값입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package sideproject.petmeeting.comment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommentPageResponseDto {
+    private List<CommentResponseDto> commentList;
+    private Integer commentCount;
+    private boolean hasNextPage;
+    private String nextCursor;
+}
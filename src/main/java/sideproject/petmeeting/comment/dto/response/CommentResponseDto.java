@@ -1,11 +1,16 @@
 package sideproject.petmeeting.comment.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class CommentResponseDto {
     private Long id;
     private String content;
+    private Long authorId;
+    private String authorNickname;
+    private String authorImageUrl;
 }
@@ -1,11 +1,18 @@
 package sideproject.petmeeting.comment.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.comment.domain.Comment;
+import sideproject.petmeeting.comment.dto.response.CommentResponseDto;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findAllByPostId(Long postId);
+    // 게시글 댓글 조회 - id 커서 이후의 댓글(작성순), 작성자 컬럼까지 DTO 로 한 번에 조회
+    @Query("SELECT new sideproject.petmeeting.comment.dto.response.CommentResponseDto(c.id, c.content, m.id, m.nickname, m.image) " +
+            "FROM Comment c JOIN c.member m WHERE c.post.id = :postId AND c.id > :commentId ORDER BY c.id ASC")
+    List<CommentResponseDto> findCommentList(@Param("postId") Long postId, @Param("commentId") Long commentId, Pageable pageable);
 }
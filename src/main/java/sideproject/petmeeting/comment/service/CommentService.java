@@ -2,108 +2,111 @@ package sideproject.petmeeting.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.comment.domain.Comment;
+import sideproject.petmeeting.comment.dto.CommentCursor;
 import sideproject.petmeeting.comment.dto.request.CommentRequestDto;
 import sideproject.petmeeting.comment.dto.request.CommentUpdateRequest;
+import sideproject.petmeeting.comment.dto.response.CommentPageResponseDto;
 import sideproject.petmeeting.comment.dto.response.CommentResponseDto;
 import sideproject.petmeeting.comment.repository.CommentRepository;
+import sideproject.petmeeting.common.RedisReadThroughCache;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.member.domain.Member;
-import sideproject.petmeeting.member.repository.MemberRepository;
 import sideproject.petmeeting.post.repository.PostRepository;
-import sideproject.petmeeting.post.domain.Post;
-import sideproject.petmeeting.security.TokenProvider;
 
-import javax.servlet.http.HttpServletRequest;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static sideproject.petmeeting.common.exception.ErrorCode.*;
+import static sideproject.petmeeting.post.service.PostService.POST_CACHE_KEY;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class CommentService {
+    private static final int COMMENT_SIZE = 20;
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
-    private final TokenProvider tokenProvider;
-    private final MemberRepository memberRepository;
-
+    private final RedisReadThroughCache redisReadThroughCache;
+
+    /**
+     * 댓글 작성
+     * 게시글의 댓글 수는 UPDATE 한 번으로 증가시키고, 수정된 row 수로 게시글 존재 여부 확인
+     * @param postId : 댓글을 작성할 게시글 id
+     * @param commentRequestDto : 댓글 내용
+     * @param member : 작성자
+     * @return : 저장된 댓글
+     */
     @Transactional
-    public Comment createComment(Long postId, CommentRequestDto commentRequestDto, HttpServletRequest httpServletRequest) {
-
-        Member member = checkAuthentication(httpServletRequest);
+    public Comment createComment(Long postId, CommentRequestDto commentRequestDto, Member member) {
+        if (postRepository.increaseCommentCount(postId) == 0) {
+            throw new BusinessException("존재하지 않는 게시글 입니다.", ENTITY_NOT_FOUND);
+        }
 
-        Optional<Post> optionalPost = postRepository.findById(postId);
-        checkPostExistence(optionalPost);
-        Comment comment = buildComment(commentRequestDto, member, optionalPost);
+        Comment comment = Comment.builder()
+                .member(member)
+                .post(postRepository.getReferenceById(postId))
+                .content(commentRequestDto.getContent())
+                .build();
         Comment savedComment = commentRepository.save(comment);
+
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
         return savedComment;
     }
 
-    public List<CommentResponseDto> getCommentList(Long postId, HttpServletRequest httpServletRequest) {
-        Member member = checkAuthentication(httpServletRequest);
-        List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
-        List<Comment> commentList =commentRepository.findAllByPostId(postId);
-        buildCommentList(commentResponseDtoList, commentList);
+    /**
+     * 댓글 조회(작성순, 커서 방식)
+     * @param postId : 게시글 id
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 null
+     * @return : 커서 이후의 댓글(작성자 정보 포함), 게시글의 댓글 수, 다음 커서 정보
+     */
+    public CommentPageResponseDto getCommentList(Long postId, String cursor) {
+        Integer commentCount = postRepository.findCommentCountById(postId)
+                .orElseThrow(() -> new BusinessException("존재하지 않는 게시글 입니다.", ENTITY_NOT_FOUND));
+        long cursorCommentId = cursor == null ? 0L : CommentCursor.decode(cursor).getCommentId();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<CommentResponseDto> commentList = commentRepository.findCommentList(postId, cursorCommentId, PageRequest.of(0, COMMENT_SIZE + 1));
+        boolean hasNextPage = commentList.size() > COMMENT_SIZE;
+        if (hasNextPage) {
+            commentList = commentList.subList(0, COMMENT_SIZE);
+        }
 
-        return commentResponseDtoList;
+        String nextCursor = null;
+        if (hasNextPage) {
+            nextCursor = new CommentCursor(commentList.get(commentList.size() - 1).getId()).encode();
+        }
 
+        return CommentPageResponseDto.builder()
+                .commentList(commentList)
+                .commentCount(commentCount)
+                .hasNextPage(hasNextPage)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Transactional
-    public void updateComment(Long commentId, CommentUpdateRequest commentUpdateRequest, HttpServletRequest httpServletRequest) {
-        checkAuthentication(httpServletRequest);
+    public void updateComment(Long commentId, CommentUpdateRequest commentUpdateRequest) {
         Comment comment = commentRepository.findById(commentId).get();
         comment.update(commentUpdateRequest);
     }
 
+    /**
+     * 댓글 삭제 - 게시글의 댓글 수도 함께 감소
+     * @param commentId : 삭제할 댓글 id
+     */
     @Transactional
-    public void deleteComment(Long commentId, HttpServletRequest httpServletRequest) {
-        checkAuthentication(httpServletRequest);
-        commentRepository.deleteById(commentId);
-    }
-
-    private static void checkPostExistence(Optional<Post> optionalPost) {
-        if (optionalPost.isEmpty()) {
-            throw new BusinessException("존재하지 않는 게시글 입니다.", ENTITY_NOT_FOUND);
-        }
-    }
-
-    private static Comment buildComment(CommentRequestDto commentRequestDto, Member member, Optional<Post> optionalPost) {
-        Comment comment = Comment.builder()
-                .member(member)
-                .post(optionalPost.get())
-                .content(commentRequestDto.getContent())
-                .build();
-        return comment;
-    }
-
-
-    private Member checkAuthentication(HttpServletRequest httpServletRequest) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new BusinessException("로그인이 필요합니다.", NEED_LOGIN);
-        }
-        String accessToken = httpServletRequest.getHeader("Authorization").substring(7);
-        tokenProvider.validateToken(accessToken);
-        Member member = memberRepository.findByEmail(tokenProvider.getUserEmailByToken(accessToken)).orElse(null);
-        if (member == null) {
-            throw new BusinessException("올바르지 않은 토큰입니다.", INVALID_TOKEN);
-        }
-        return member;
-    }
-
-    private static void buildCommentList(List<CommentResponseDto> commentResponseDtoList, List<Comment> commentList) {
-        for (Comment comment : commentList) {
-            commentResponseDtoList.add(CommentResponseDto.builder()
-                    .id(comment.getId())
-                    .content(comment.getContent())
-                    .build());
-        }
+    public void deleteComment(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new BusinessException("존재하지 않는 댓글 입니다.", ENTITY_NOT_FOUND));
+        Long postId = comment.getPost().getId();
+
+        commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(postId);
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
     }
 }
@@ -0,0 +1,136 @@
+package sideproject.petmeeting.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 단건 조회 응답 Redis 캐시(read-through)
+ * 캐시에 없으면 DB 에서 조회 후 TTL 을 지정해 저장, 같은 key 를 동시에 조회하는 경우 한 요청만 DB 를 조회하고 나머지는 결과를 공유
+ * Redis 장애 시에는 캐시 없이 DB 조회 결과를 그대로 반환
+ * 캐시에 없을 때만 읽기 전용 트랜잭션을 열어 조회 - 캐시에서 응답하는 요청은 DB 커넥션을 사용하지 않음
+ */
+@Slf4j
+@Component
+public class RedisReadThroughCache {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    // key -> DB 조회 중인 요청의 결과
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    @Value("${cache.detail.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    public RedisReadThroughCache(StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 조회한 값을 캐시에 저장 후 반환(loader 는 읽기 전용 트랜잭션에서 실행)
+     * @param key : 캐시 key
+     * @param type : 캐시 값 타입
+     * @param loader : 캐시에 없을 때 값을 조회할 함수
+     * @return : 캐시 또는 loader 의 조회 결과
+     */
+    public <T> T get(String key, Class<T> type, Supplier<T> loader) {
+        T cached = read(key, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return type.cast(await(inFlight));
+        }
+
+        try {
+            T value = readOnlyTransactionTemplate.execute(status -> loader.get());
+            write(key, value);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * 캐시 삭제
+     * 커밋 전 다른 요청이 이전 값을 다시 캐시할 수 있으므로 트랜잭션 커밋 후 한 번 더 삭제
+     * @param key : 삭제할 캐시 key
+     */
+    public void evict(String key) {
+        delete(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(key);
+                }
+            });
+        }
+    }
+
+
+    private <T> T read(String key, Class<T> type) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value, type);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private void write(String key, Object value) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 저장 실패 : key = {}", key, e);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 삭제 실패 : key = {}", key, e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -5,29 +5,79 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.common.exception.ErrorCode;
+import sideproject.petmeeting.config.AsyncConfig;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 import java.util.UUID;
-
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 이미지 업로드
+ * 요청 본문(MultipartFile)을 그대로 스트리밍해 업로드하고, 임계값보다 큰 파일은 TransferManager 가 멀티파트 업로드로 나눠서 전송
+ * 업로드는 크기가 제한된 업로드 스레드 풀에서 실행하고, 실패하면 간격을 늘려가며 재시도
+ * TransferManager 는 별도의 전송 스레드 풀을 사용해 업로드 작업이 파트 업로드와 스레드를 나눠 쓰지 않음
+ * 시간 초과 시 진행 중인 업로드를 중단(abort)하고 더 이상 재시도하지 않음
+ * DB 커넥션을 잡은 채로 기다리지 않도록 트랜잭션 밖에서 호출
+ * cloud.aws.s3.endpoint 를 설정하면 MinIO 같은 로컬 S3 호환 저장소로 업로드(S3Config)
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class S3Uploader {
     private final AmazonS3Client amazonS3Client;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final TransferManager transferManager;
+    private final String bucket;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long timeoutMillis;
+
+    public S3Uploader(AmazonS3Client amazonS3Client,
+                      @Qualifier(AsyncConfig.S3_UPLOAD_EXECUTOR) ThreadPoolTaskExecutor uploadExecutor,
+                      @Qualifier(AsyncConfig.S3_TRANSFER_EXECUTOR) ThreadPoolTaskExecutor transferExecutor,
+                      @Value("${cloud.aws.s3.bucket}") String bucket,
+                      @Value("${s3.upload.multipart-threshold:8388608}") long multipartThreshold,
+                      @Value("${s3.upload.part-size:5242880}") long partSize,
+                      @Value("${s3.upload.max-attempts:3}") int maxAttempts,
+                      @Value("${s3.upload.retry-backoff:200}") long retryBackoffMillis,
+                      @Value("${s3.upload.timeout:30000}") long timeoutMillis) {
+        this.amazonS3Client = amazonS3Client;
+        this.uploadExecutor = uploadExecutor;
+        // 스레드 풀은 스프링 빈으로 관리하므로 TransferManager 가 종료하지 않음
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(transferExecutor::getThreadPoolExecutor)
+                .withShutDownThreadPools(false)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(partSize)
+                .build();
+        this.bucket = bucket;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.timeoutMillis = timeoutMillis;
+    }
 
     /**
-     * 이미지 파일 저장
+     * 이미지 파일 저장 - 업로드가 끝날 때까지(최대 s3.upload.timeout) 대기, 시간 초과 시 진행 중인 업로드 중단
      * @param image : 저정할 이미지
      * @param imagePath : 저장 경로
      * @return : S3 업로드 된 파일  URL 주소 반환
@@ -46,7 +96,17 @@ public class S3Uploader {
 
         String fileName = imagePath + "/" + UUID.randomUUID() + image.getName() + "." + fileType;
 
-        return putS3(image, fileName, fileType);
+        UploadTask task = new UploadTask(image, fileName, fileType);
+        try {
+            task.putS3(1)
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            task.abort();
+            log.warn("S3 업로드 실패 : fileName = {}", fileName, e.getCause());
+            throw new BusinessException("파일 업로드에 실패했습니다.", ErrorCode.FILE_UPLOAD_FAIL);
+        }
+        return amazonS3Client.getUrl(bucket, fileName).toString();
 
     }
 
@@ -61,23 +121,6 @@ public class S3Uploader {
                 || fileType.equals("jpeg");
     }
 
-    /**
-     * S3로 업로드
-     * @param uploadFile : 업로드 할 파일
-     * @param fileName : 파일명
-     * @return : 업로드 된 이미지 URL
-     */
-    private String putS3(MultipartFile uploadFile, String fileName, String fileType) throws IOException {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(fileType);
-        metadata.setContentLength(uploadFile.getSize());
-        amazonS3Client.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile.getInputStream(), metadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
-        return amazonS3Client.getUrl(bucket, fileName).toString();
-    }
-
     /**
      * 이미지 파일 삭제
      * @param imageUrl : 삭제 할 파일명
@@ -91,4 +134,121 @@ public class S3Uploader {
         amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
     }
 
-}
\ No newline at end of file
+    /**
+     * 업로드 후 DB 저장에 실패한 이미지 삭제 - 삭제에 실패해도 저장 실패 예외를 그대로 전달하도록 로그만 남김
+     * @param imageUrl : 삭제 할 파일명
+     * @param imagePath : 이미지 경로
+     */
+    public void deleteUnusedImage(String imageUrl, String imagePath) {
+        try {
+            deleteImage(imageUrl, imagePath);
+        } catch (RuntimeException e) {
+            log.warn("사용하지 않는 이미지 삭제 실패 : imageUrl = {}", imageUrl, e);
+        }
+    }
+
+    /**
+     * 교체된 이미지 삭제 - 트랜잭션 안에서는 커밋된 뒤 삭제해 롤백되면 이전 이미지를 그대로 사용
+     * @param imageUrl : 삭제 할 파일명(없으면 삭제하지 않음)
+     * @param imagePath : 이미지 경로
+     */
+    public void deleteImageAfterCommit(String imageUrl, String imagePath) {
+        if (imageUrl == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteUnusedImage(imageUrl, imagePath);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteUnusedImage(imageUrl, imagePath);
+            }
+        });
+    }
+
+    /**
+     * 업로드 한 건 - 시도 마다 업로드 스레드 풀에서 TransferManager 업로드를 시작하고 끝날 때까지 대기
+     * 중단(abort)되면 진행 중인 업로드를 중단하고 남은 재시도를 실행하지 않음
+     */
+    private class UploadTask {
+        private final MultipartFile uploadFile;
+        private final String fileName;
+        private final String fileType;
+        private volatile boolean aborted;
+        private volatile Upload current;
+
+        private UploadTask(MultipartFile uploadFile, String fileName, String fileType) {
+            this.uploadFile = uploadFile;
+            this.fileName = fileName;
+            this.fileType = fileType;
+        }
+
+        /**
+         * S3로 업로드 - 실패하면 maxAttempts 까지 재시도(재시도 간격은 시도 횟수에 비례)
+         * 스레드 풀이 가득 차 거절된 경우에도 실패한 future 를 반환해 재시도
+         * @param attempt : 시도 횟수
+         * @return : 업로드 완료 시 완료되는 future
+         */
+        private CompletableFuture<Void> putS3(int attempt) {
+            CompletableFuture<Void> transfer;
+            try {
+                transfer = CompletableFuture.runAsync(this::transfer, uploadExecutor);
+            } catch (RejectedExecutionException e) {
+                transfer = CompletableFuture.failedFuture(e);
+            }
+            return transfer
+                    .handle((result, e) -> {
+                        if (e == null) {
+                            return CompletableFuture.<Void>completedFuture(null);
+                        }
+                        if (aborted || attempt >= maxAttempts) {
+                            return CompletableFuture.<Void>failedFuture(e);
+                        }
+                        log.warn("S3 업로드 재시도 : fileName = {}, attempt = {}", fileName, attempt, e);
+                        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(retryBackoffMillis * attempt, TimeUnit.MILLISECONDS))
+                                .thenCompose(ignored -> putS3(attempt + 1));
+                    })
+                    .thenCompose(future -> future);
+        }
+
+        /**
+         * 진행 중인 업로드 중단 - 이후 시작하는 시도와 재시도도 실행하지 않음
+         */
+        private void abort() {
+            aborted = true;
+            Upload upload = current;
+            if (upload != null) {
+                upload.abort();
+            }
+        }
+
+        // 한 번의 업로드 시도 - 업로드가 끝날 때까지 대기
+        private void transfer() {
+            if (aborted) {
+                throw new CancellationException("S3 업로드 중단 : " + fileName);
+            }
+            try (InputStream inputStream = uploadFile.getInputStream()) {
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentType(fileType);
+                metadata.setContentLength(uploadFile.getSize());
+
+                Upload upload = transferManager.upload(new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+                current = upload;
+                // 업로드 시작과 중단이 동시에 일어난 경우
+                if (aborted) {
+                    upload.abort();
+                }
+                upload.waitForCompletion();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("S3 업로드 대기 중단 : " + fileName);
+            }
+        }
+    }
+}
@@ -16,12 +16,14 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "내부 서버 에러"),
     INVALID_TYPE_VALUE(400, "INVALID_TYPE_VALUE", "잘못된 유형 값"),
     HANDLE_ACCESS_DENIED(403, "HANDLE_ACCESS_DENIED", "접근 권한이 없습니다."),
+    INVALID_CURSOR(400, "INVALID_CURSOR", "올바르지 않은 커서 값입니다."),
 
     // == File Upload ==//
     FILE_NOT_EXIST(404, "FILE_NOT_EXIST", "파일이 없습니다. 파일을 추가해 주세요."),
     FILE_SIZE_EXCEED(413, "FILE_SIZE_EXCEED", "업로드 할 수 있는 파일 최대 크기는 20MB 입니다."),
     INVALID_FILE_TYPE(415, "INVALID_FILE_TYPE", "업로드 할 수 있는 파일 형식은 jpg, jpeg, png 입니다."),
     FILE_CONVERT_FAIL(400, "FILE_CONVERT_FAIL","MultipartFile -> File 변환 실패" ),
+    FILE_UPLOAD_FAIL(503, "FILE_UPLOAD_FAIL", "파일 업로드에 실패했습니다. 잠시 후 다시 시도해 주세요."),
 
     // == Pet ==//
     PET_NOT_EXIST(404, "PET_NOT_EXIST", "반려동물 정보가 존재하지 않습니다."),
@@ -54,6 +56,10 @@ public enum ErrorCode {
 
     //== Follow ==//
     FOLLOW_NOT_EXIST(404, "FOLLOW_NOT_EXIST", "팔로우 내역이 없습니다."),
+    CANNOT_FOLLOW_SELF(400, "CANNOT_FOLLOW_SELF", "자기 자신은 팔로우 할 수 없습니다."),
+
+    //== Chat ==//
+    CHAT_ROOM_ACCESS_DENIED(403, "CHAT_ROOM_ACCESS_DENIED", "참여하지 않은 채팅방 입니다."),
 
     ;
 
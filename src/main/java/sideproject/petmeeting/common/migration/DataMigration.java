@@ -0,0 +1,23 @@
+package sideproject.petmeeting.common.migration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sideproject.petmeeting.common.Timestamped;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 실행을 마친 데이터 보정 작업 - 작업 이름으로 한 번만 실행되도록 기록(createdAt : 완료 시각)
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataMigration extends Timestamped {
+    @Id
+    private String name;
+}
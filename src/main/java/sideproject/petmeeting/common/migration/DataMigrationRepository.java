@@ -0,0 +1,6 @@
+package sideproject.petmeeting.common.migration;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
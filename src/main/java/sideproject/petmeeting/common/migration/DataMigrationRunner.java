@@ -0,0 +1,68 @@
+package sideproject.petmeeting.common.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 데이터 보정 작업을 한 번만 실행
+ * 완료한 작업은 data_migration 테이블에 기록해 이후 서버 시작 시에는 실행하지 않고,
+ * 여러 서버가 동시에 시작해도 Redis 락(migration:lock:{name})을 얻은 서버 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner {
+    static final String LOCK_KEY = "migration:lock:";
+
+    // 락을 얻은 서버만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final DataMigrationRepository dataMigrationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${migration.lock-ttl:3600000}")
+    private long lockTtlMillis;
+
+    /**
+     * 완료 기록이 없는 작업만 실행하고 완료 기록 저장 - 실패한 경우 기록하지 않으므로 다음 서버 시작 시 다시 실행
+     * @param name : 작업 이름
+     * @param migration : 보정 작업
+     * @return : 이 서버에서 실행했는지 여부
+     */
+    public boolean runOnce(String name, Runnable migration) {
+        if (dataMigrationRepository.existsById(name)) {
+            return false;
+        }
+
+        String lockKey = LOCK_KEY + name;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMillis)))) {
+            log.info("다른 서버에서 실행 중인 데이터 보정 : {}", name);
+            return false;
+        }
+
+        try {
+            // 락을 얻는 사이 다른 서버가 완료한 경우
+            if (dataMigrationRepository.existsById(name)) {
+                return false;
+            }
+            migration.run();
+            dataMigrationRepository.save(DataMigration.builder().name(name).build());
+            log.info("데이터 보정 완료 : {}", name);
+            return true;
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        }
+    }
+}
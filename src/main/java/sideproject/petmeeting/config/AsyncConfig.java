@@ -0,0 +1,83 @@
+package sideproject.petmeeting.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+    public static final String MY_PAGE_EXECUTOR = "myPageExecutor";
+    public static final String S3_UPLOAD_EXECUTOR = "s3UploadExecutor";
+    public static final String S3_TRANSFER_EXECUTOR = "s3TransferExecutor";
+
+    @Value("${mypage.dashboard.pool-size:4}")
+    private int myPagePoolSize;
+    @Value("${mypage.dashboard.queue-capacity:40}")
+    private int myPageQueueCapacity;
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int dataSourceMaxPoolSize;
+    @Value("${s3.upload.core-pool-size:4}")
+    private int s3UploadCorePoolSize;
+    @Value("${s3.upload.max-pool-size:16}")
+    private int s3UploadMaxPoolSize;
+    @Value("${s3.upload.queue-capacity:50}")
+    private int s3UploadQueueCapacity;
+    @Value("${s3.upload.transfer-pool-size:8}")
+    private int s3TransferPoolSize;
+
+    /**
+     * 마이페이지 대시보드 섹션 병렬 조회용 스레드 풀
+     * 섹션 마다 DB 커넥션을 하나씩 사용하므로 스레드 수를 고정하고 커넥션 풀(Hikari)의 절반을 넘지 않도록 제한,
+     * 나머지 커넥션은 다른 요청이 사용 - 밀린 섹션은 큐에서 기다리다 섹션 시간 제한에 걸리면 실패로 응답
+     * 큐까지 가득 차면 작업을 거절(AbortPolicy)하고, 거절된 섹션은 대시보드에서 실패로 응답
+     */
+    @Bean(name = MY_PAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor myPageExecutor() {
+        int poolSize = Math.max(1, Math.min(myPagePoolSize, dataSourceMaxPoolSize / 2));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(myPageQueueCapacity);
+        executor.setThreadNamePrefix("my-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 이미지 업로드용 스레드 풀(S3Uploader 의 업로드 시도 - 업로드가 끝날 때까지 대기)
+     * 동시에 진행하는 업로드 수를 제한, 큐까지 가득 차면 요청 스레드에서 실행하지 않고 거절(AbortPolicy), 거절된 업로드는 재시도 후 실패 응답
+     */
+    @Bean(name = S3_UPLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3UploadCorePoolSize);
+        executor.setMaxPoolSize(s3UploadMaxPoolSize);
+        executor.setQueueCapacity(s3UploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 전송용 스레드 풀(S3Uploader 의 TransferManager 가 업로드 작업과 파트 업로드에 사용)
+     * 업로드 작업은 파트 업로드가 끝날 때까지 스레드를 잡고 있으므로, 동시 업로드 수(s3.upload.max-pool-size)보다
+     * transfer-pool-size 만큼 많은 스레드로 고정해 파트 업로드가 항상 실행되도록 함(동시 업로드 수가 제한되므로 큐는 제한하지 않음)
+     */
+    @Bean(name = S3_TRANSFER_EXECUTOR)
+    public ThreadPoolTaskExecutor s3TransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3UploadMaxPoolSize + s3TransferPoolSize);
+        executor.setMaxPoolSize(s3UploadMaxPoolSize + s3TransferPoolSize);
+        executor.setThreadNamePrefix("s3-transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -12,13 +12,12 @@ import sideproject.petmeeting.security.UserDetailsServiceImpl;
 @RequiredArgsConstructor
 public class JwtSecurityConfiguration extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
-    private final String SECRET_KEY;
     private final TokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
 
     @Override
     public void configure(HttpSecurity builder) throws Exception {
-        JwtFilter customJwtFilter = new JwtFilter(SECRET_KEY, tokenProvider, userDetailsService);
+        JwtFilter customJwtFilter = new JwtFilter(tokenProvider, userDetailsService);
         builder.addFilterBefore(customJwtFilter, UsernamePasswordAuthenticationFilter.class);
     }
 }
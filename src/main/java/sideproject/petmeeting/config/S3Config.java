@@ -0,0 +1,34 @@
+package sideproject.petmeeting.config;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class S3Config {
+
+    /**
+     * 로컬 S3 호환 저장소(MinIO 등)용 S3 클라이언트 - cloud.aws.s3.endpoint 를 설정한 경우에만 등록
+     * 버킷 이름을 호스트에 붙이지 않도록 path-style 로 접근
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cloud.aws.s3.endpoint")
+    public AmazonS3Client localAmazonS3Client(@Value("${cloud.aws.s3.endpoint}") String endpoint,
+                                              @Value("${cloud.aws.region.static:ap-northeast-2}") String region,
+                                              @Value("${cloud.aws.credentials.access-key}") String accessKey,
+                                              @Value("${cloud.aws.credentials.secret-key}") String secretKey) {
+        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
+                .build();
+    }
+}
@@ -1,7 +1,6 @@
 package sideproject.petmeeting.config;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.security.ConditionalOnDefaultWebSecurity;
 import org.springframework.context.annotation.Bean;
@@ -32,8 +31,6 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
-    @Value("${jwt.secret}")
-    String SECRET_KEY;
     private final TokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationEntryPointException authenticationEntryPointException;
@@ -76,7 +73,7 @@ public class SecurityConfig {
                 .anyRequest()
                 .authenticated()
                 .and()
-                .apply(new JwtSecurityConfiguration(SECRET_KEY, tokenProvider, userDetailsService))
+                .apply(new JwtSecurityConfiguration(tokenProvider, userDetailsService))
                 ;
 
         return http.build();
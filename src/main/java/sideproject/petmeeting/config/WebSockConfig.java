@@ -1,23 +1,97 @@
 package sideproject.petmeeting.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import sideproject.petmeeting.chat.pubsub.ChatRoomTopicRegistry;
+import sideproject.petmeeting.config.handler.RelayDestinationInterceptor;
 import sideproject.petmeeting.config.handler.StompHandler;
 
+import javax.annotation.PostConstruct;
+
 @RequiredArgsConstructor
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSockConfig implements WebSocketMessageBrokerConfigurer {
+    public static final String BROKER_MODE_SIMPLE = "simple";
+    public static final String BROKER_MODE_RELAY = "relay";
+    // 외부 브로커의 채팅방 주소(RabbitMQ 는 /topic/{routing key} 형식만 허용)
+    public static final String RELAY_ROOM_DESTINATION_PREFIX = "/topic/chat.room.";
 
     private final StompHandler stompHandler;
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    // 외부 STOMP 브로커(RabbitMQ, ActiveMQ) 설정
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // inbound/outbound 채널 스레드 풀 설정
+    @Value("${chat.broker.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${chat.broker.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${chat.broker.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${chat.broker.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${chat.broker.queue-capacity:10000}")
+    private int channelQueueCapacity;
+
+    // 세션 별 전송 버퍼 제한
+    @Value("${chat.broker.send-time-limit:10000}")
+    private int sendTimeLimit;
+    @Value("${chat.broker.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${chat.broker.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    /**
+     * 채팅방 구독 주소를 외부 브로커의 주소로 변환
+     * @param destination : 클라이언트 구독 주소(/sub/chat/room/{roomId})
+     * @return : 외부 브로커 주소(/topic/chat.room.{roomId}), 채팅방 주소가 아니면 null
+     */
+    public static String toRelayDestination(String destination) {
+        if (destination == null || !destination.startsWith(ChatRoomTopicRegistry.ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        return RELAY_ROOM_DESTINATION_PREFIX + destination.substring(ChatRoomTopicRegistry.ROOM_DESTINATION_PREFIX.length());
+    }
+
+    // 잘못된 브로커 모드로 기동하면 채팅 메시지가 전달되지 않으므로 기동 시 실패
+    @PostConstruct
+    public void validateBrokerMode() {
+        if (!BROKER_MODE_SIMPLE.equals(brokerMode) && !BROKER_MODE_RELAY.equals(brokerMode)) {
+            throw new IllegalStateException("지원하지 않는 chat.broker.mode : " + brokerMode);
+        }
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        if (BROKER_MODE_RELAY.equals(brokerMode)) {
+            config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            config.enableSimpleBroker("/sub");
+        }
         config.setApplicationDestinationPrefixes("/pub");
     }
 
@@ -27,8 +101,30 @@ public class WebSockConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
-//    @Override
-//    public void configureClientInboundChannel(ChannelRegistration registration) {
-//        registration.interceptors(stompHandler);
-//    }
-}
\ No newline at end of file
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(channelQueueCapacity);
+        registration.interceptors(stompHandler);
+        if (BROKER_MODE_RELAY.equals(brokerMode)) {
+            registration.interceptors(new RelayDestinationInterceptor());
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(channelQueueCapacity);
+    }
+}
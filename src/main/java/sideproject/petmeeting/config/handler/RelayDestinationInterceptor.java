@@ -0,0 +1,32 @@
+package sideproject.petmeeting.config.handler;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import sideproject.petmeeting.config.WebSockConfig;
+
+/**
+ * 외부 브로커(relay) 모드에서 클라이언트가 구독한 채팅방 주소(/sub/chat/room/{roomId})를
+ * 브로커가 지원하는 주소(/topic/chat.room.{roomId})로 변경 - 클라이언트는 모드와 관계없이 같은 주소를 구독
+ */
+public class RelayDestinationInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = WebSockConfig.toRelayDestination(accessor.getDestination());
+        if (destination == null) {
+            return message;
+        }
+
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
@@ -1,27 +1,116 @@
 package sideproject.petmeeting.config.handler;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import sideproject.petmeeting.chat.pubsub.ChatRoomTopicRegistry;
+import sideproject.petmeeting.chat.service.ChatPresenceService;
 import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.security.UserDetailsImpl;
+import sideproject.petmeeting.security.UserDetailsServiceImpl;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class StompHandler implements ChannelInterceptor {
-    private TokenProvider tokenProvider;
+    private static final String MEMBER_ID_ATTRIBUTE = "memberId";
+    private static final String SUBSCRIPTIONS_ATTRIBUTE = "chatSubscriptions";
+
+    private final TokenProvider tokenProvider;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ChatPresenceService chatPresenceService;
 
     // websocket 을 통해 들어온 요청이 처리 되기 전에 실행 됨
+    // 인증된 세션의 채팅방 구독/해제/연결 종료를 접속 상태에 반영
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        if (StompCommand.CONNECT == accessor.getCommand()) {
-            tokenProvider.validateToken(accessor.getFirstNativeHeader("Authorization").substring(7));
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (accessor.getCommand() == null || sessionAttributes == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT:
+                Long memberId = authenticate(accessor.getFirstNativeHeader("Authorization"));
+                if (memberId != null) {
+                    sessionAttributes.put(MEMBER_ID_ATTRIBUTE, memberId);
+                }
+                break;
+            case SUBSCRIBE:
+                subscribe(sessionAttributes, accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+                break;
+            case UNSUBSCRIBE:
+                unsubscribe(sessionAttributes, accessor.getSessionId(), accessor.getSubscriptionId());
+                break;
+            case DISCONNECT:
+                disconnect(sessionAttributes, accessor.getSessionId());
+                break;
+            default:
+                break;
         }
         return message;
     }
+
+    // access token 의 회원 id(닉네임은 바뀔 수 있으므로 id 로 접속 상태 관리), 인증되지 않으면 null
+    private Long authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        Claims claims = tokenProvider.parseClaims(authorization.substring(7));
+        if (claims == null) {
+            return null;
+        }
+        try {
+            UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject());
+            return userDetails.getMember().getId();
+        } catch (UsernameNotFoundException e) {
+            log.info("STOMP 연결 회원 조회 실패 : {}", claims.getSubject());
+            return null;
+        }
+    }
+
+    private void subscribe(Map<String, Object> sessionAttributes, String sessionId, String subscriptionId, String destination) {
+        Long memberId = (Long) sessionAttributes.get(MEMBER_ID_ATTRIBUTE);
+        if (memberId == null || destination == null || !destination.startsWith(ChatRoomTopicRegistry.ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        String roomId = destination.substring(ChatRoomTopicRegistry.ROOM_DESTINATION_PREFIX.length());
+        String previousRoomId = getSubscriptions(sessionAttributes).put(subscriptionId, roomId);
+        if (previousRoomId != null) {
+            chatPresenceService.leave(previousRoomId, memberId, sessionId, subscriptionId);
+        }
+        chatPresenceService.enter(roomId, memberId, sessionId, subscriptionId);
+    }
+
+    private void unsubscribe(Map<String, Object> sessionAttributes, String sessionId, String subscriptionId) {
+        String roomId = getSubscriptions(sessionAttributes).remove(subscriptionId);
+        if (roomId != null) {
+            chatPresenceService.leave(roomId, (Long) sessionAttributes.get(MEMBER_ID_ATTRIBUTE), sessionId, subscriptionId);
+        }
+    }
+
+    // DISCONNECT 는 클라이언트 요청과 세션 종료 시 두 번 들어올 수 있으므로 처리한 구독은 제거
+    private void disconnect(Map<String, Object> sessionAttributes, String sessionId) {
+        Map<String, String> subscriptions = getSubscriptions(sessionAttributes);
+        Long memberId = (Long) sessionAttributes.get(MEMBER_ID_ATTRIBUTE);
+        subscriptions.forEach((subscriptionId, roomId) -> chatPresenceService.leave(roomId, memberId, sessionId, subscriptionId));
+        subscriptions.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getSubscriptions(Map<String, Object> sessionAttributes) {
+        return (Map<String, String>) sessionAttributes.computeIfAbsent(SUBSCRIPTIONS_ATTRIBUTE, key -> new ConcurrentHashMap<String, String>());
+    }
 }
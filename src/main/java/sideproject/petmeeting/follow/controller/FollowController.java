@@ -1,32 +1,30 @@
 package sideproject.petmeeting.follow.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import sideproject.petmeeting.common.Response;
 import sideproject.petmeeting.common.ResponseResource;
 import sideproject.petmeeting.common.StatusEnum;
-import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.follow.domain.Follow;
 import sideproject.petmeeting.follow.domain.dto.FollowRequestDto;
+import sideproject.petmeeting.follow.domain.dto.FollowStatusDto;
 import sideproject.petmeeting.follow.domain.dto.FollowingMemberListDto;
 import sideproject.petmeeting.follow.service.FollowService;
 import sideproject.petmeeting.member.domain.Member;
-import sideproject.petmeeting.member.repository.MemberRepository;
-import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.security.UserDetailsImpl;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static sideproject.petmeeting.common.exception.ErrorCode.INVALID_TOKEN;
-import static sideproject.petmeeting.common.exception.ErrorCode.NEED_LOGIN;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,18 +32,18 @@ import static sideproject.petmeeting.common.exception.ErrorCode.NEED_LOGIN;
 public class FollowController {
 
     // == Dependency Injection ==//
-    private final TokenProvider tokenProvider;
     private final FollowService followService;
-    private final MemberRepository memberRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @PostMapping
     public ResponseEntity follow(@RequestBody @Valid FollowRequestDto followRequestDto,
-                                 HttpServletRequest httpServletRequest) {
+                                 @AuthenticationPrincipal UserDetailsImpl userDetails) {
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        Member member = checkAuthentication(httpServletRequest);
+        Member member = userDetails.getMember();
         Follow follow = followService.follow(followRequestDto, member);
         ResponseResource responseResource = new ResponseResource("정상적으로 팔로우가 완료되었습니다.");
         responseResource.add(linkTo(FollowController.class).withSelfRel());
@@ -61,13 +59,12 @@ public class FollowController {
 
     @DeleteMapping("/{followId}")
     public ResponseEntity unfollow(@PathVariable Long followId,
-                                    HttpServletRequest httpServletRequest) {
+                                   @AuthenticationPrincipal UserDetailsImpl userDetails) {
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        Member member = checkAuthentication(httpServletRequest);
-        followService.unfollow(followId);
+        followService.unfollow(followId, userDetails.getMember());
 
         ResponseResource responseResource = new ResponseResource("팔로우가 정상적으로 취소되었습니다.");
         responseResource.add(linkTo(FollowController.class).slash(followId).withSelfRel());
@@ -80,21 +77,36 @@ public class FollowController {
         return new ResponseEntity<>(response, headers, HttpStatus.OK);
     }
 
+    /**
+     * 팔로잉 목록 조회
+     * @param userDetails : 로그인한 회원
+     * @param page : 페이지 번호(기본 0)
+     * @param size : 페이지 크기(기본 20, 최대 100)
+     * @return : 팔로잉 목록, 다음 페이지가 있으면 next 링크 추가
+     */
     @GetMapping(value = "/follow-member")
-    public ResponseEntity getFollowingMember(HttpServletRequest httpServletRequest) {
+    public ResponseEntity getFollowingMember(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                             @RequestParam(defaultValue = "0") int page,
+                                             @RequestParam(defaultValue = "20") int size) {
 
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        Member member = checkAuthentication(httpServletRequest);
-        List<FollowingMemberListDto> followingMemberList = followService.getFollowingMemberList(member);
+        Member member = userDetails.getMember();
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Slice<FollowingMemberListDto> followingMemberList = followService.getFollowingMemberList(member, pageNumber, pageSize);
 
-        ResponseResource responseResource = new ResponseResource(followingMemberList);
+        ResponseResource responseResource = new ResponseResource(followingMemberList.getContent());
         responseResource.add(linkTo(FollowController.class).slash("follow-member").withSelfRel());
         responseResource.add(linkTo(FollowController.class).slash("followed-member").withRel("get Follower List"));
         responseResource.add(linkTo(FollowController.class).withRel("follow"));
         responseResource.add(linkTo(FollowController.class).slash("unfollowId").withRel("Unfollow"));
+        if (followingMemberList.hasNext()) {
+            responseResource.add(linkTo(methodOn(FollowController.class)
+                    .getFollowingMember(null, pageNumber + 1, pageSize)).withRel("next"));
+        }
         response.setStatus(StatusEnum.OK);
         response.setMessage("팔로잉 멤버 조회 완료");
         response.setData(responseResource);
@@ -102,37 +114,62 @@ public class FollowController {
     }
 
 
+    /**
+     * 팔로워 목록 조회
+     * @param userDetails : 로그인한 회원
+     * @param page : 페이지 번호(기본 0)
+     * @param size : 페이지 크기(기본 20, 최대 100)
+     * @return : 팔로워 목록, 다음 페이지가 있으면 next 링크 추가
+     */
     @GetMapping(value = "/follower")
-    public ResponseEntity getFollowerMember(HttpServletRequest httpServletRequest) {
+    public ResponseEntity getFollowerMember(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size) {
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        Member member = checkAuthentication(httpServletRequest);
-        List<FollowingMemberListDto> followerList = followService.getFollowerList(member);
+        Member member = userDetails.getMember();
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Slice<FollowingMemberListDto> followerList = followService.getFollowerList(member, pageNumber, pageSize);
 
-        ResponseResource responseResource = new ResponseResource(followerList);
+        ResponseResource responseResource = new ResponseResource(followerList.getContent());
         responseResource.add(linkTo(FollowController.class).slash("followed-member").withSelfRel());
         responseResource.add(linkTo(FollowController.class).slash("follow-member").withRel("get Following List"));
         responseResource.add(linkTo(FollowController.class).withRel("follow"));
         responseResource.add(linkTo(FollowController.class).slash("unfollowId").withRel("Unfollow"));
+        if (followerList.hasNext()) {
+            responseResource.add(linkTo(methodOn(FollowController.class)
+                    .getFollowerMember(null, pageNumber + 1, pageSize)).withRel("next"));
+        }
         response.setStatus(StatusEnum.OK);
         response.setMessage("팔로워 조회 완료");
         response.setData(responseResource);
         return new ResponseEntity<>(response, headers, HttpStatus.OK);
     }
 
+    /**
+     * 팔로우 상태 조회
+     * @param memberId : 상대 회원 id
+     * @param userDetails : 로그인한 회원
+     * @return : 팔로우 여부, 맞팔로우 여부, 상대 회원의 팔로잉/팔로워 수
+     */
+    @GetMapping(value = "/{memberId}/status")
+    public ResponseEntity getFollowStatus(@PathVariable Long memberId,
+                                          @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Response response = new Response();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-    private Member checkAuthentication(HttpServletRequest httpServletRequest) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new BusinessException("로그인이 필요합니다.", NEED_LOGIN);
-        }
-        String accessToken = httpServletRequest.getHeader("Authorization").substring(7);
-        tokenProvider.validateToken(accessToken);
-        Member member = memberRepository.findByEmail(tokenProvider.getUserEmailByToken(accessToken)).orElse(null);
-        if (member == null) {
-            throw new BusinessException("올바르지 않은 토큰입니다.", INVALID_TOKEN);
-        }
-        return member;
+        FollowStatusDto followStatus = followService.getFollowStatus(userDetails.getMember(), memberId);
+
+        ResponseResource responseResource = new ResponseResource(followStatus);
+        responseResource.add(linkTo(FollowController.class).slash(memberId).slash("status").withSelfRel());
+        responseResource.add(linkTo(FollowController.class).withRel("follow"));
+        response.setStatus(StatusEnum.OK);
+        response.setMessage("팔로우 상태 조회 완료");
+        response.setData(responseResource);
+        return new ResponseEntity<>(response, headers, HttpStatus.OK);
     }
 }
@@ -15,6 +15,12 @@ import static javax.persistence.FetchType.LAZY;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+        // 중복 팔로우 방지, 팔로잉 목록 조회, 팔로우 여부 확인
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower", "follow_member"}),
+        // 팔로워 목록 조회
+        indexes = @Index(name = "idx_follow_following_follower", columnList = "follow_member, follower")
+)
 public class Follow {
     @Id
     @GeneratedValue
@@ -0,0 +1,15 @@
+package sideproject.petmeeting.follow.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 관계 캐시 적재용 - 상대 회원 id, 팔로우 id(캐시 정렬 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowEdgeDto {
+
+    private Long memberId;
+    private Long followId;
+}
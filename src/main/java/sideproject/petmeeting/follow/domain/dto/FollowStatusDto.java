@@ -0,0 +1,18 @@
+package sideproject.petmeeting.follow.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class FollowStatusDto {
+
+    private Long memberId;
+    // 내가 상대를 팔로우 하는지 여부
+    private boolean following;
+    // 상대가 나를 팔로우 하는지 여부
+    private boolean followed;
+    private boolean mutual;
+    private long followingCount;
+    private long followerCount;
+}
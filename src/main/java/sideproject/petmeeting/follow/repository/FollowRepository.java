@@ -1,9 +1,17 @@
 package sideproject.petmeeting.follow.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.follow.domain.Follow;
+import sideproject.petmeeting.follow.domain.dto.FollowEdgeDto;
+import sideproject.petmeeting.follow.domain.dto.FollowingMemberListDto;
 import sideproject.petmeeting.member.domain.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +20,49 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowing(Member following);
     Optional<Follow> findByFollower(Member follower);
 
-    List<Follow> findAllByFollower(Member follower);
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
+    Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
 
-    List<Follow> findAllByFollowing(Member following);
+    // 팔로우 취소 대상 회원 id 조회(내가 한 팔로우만)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.id = :followId AND f.follower.id = :followerId")
+    Optional<Long> findFollowingIdByIdAndFollowerId(@Param("followId") Long followId, @Param("followerId") Long followerId);
+
+    // 팔로우 취소(삭제된 row 수로 취소 여부 확인)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.id = :followId AND f.follower.id = :followerId")
+    int deleteByIdAndFollowerId(@Param("followId") Long followId, @Param("followerId") Long followerId);
+
+    // 팔로잉 목록 조회(최근 팔로우 순, count 쿼리 없음)
+    @Query("SELECT new sideproject.petmeeting.follow.domain.dto.FollowingMemberListDto(m.id, m.nickname, m.image) " +
+            "FROM Follow f JOIN f.following m WHERE f.follower.id = :memberId ORDER BY f.id DESC")
+    Slice<FollowingMemberListDto> findFollowingMemberList(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 팔로워 목록 조회(최근 팔로우 순, count 쿼리 없음)
+    @Query("SELECT new sideproject.petmeeting.follow.domain.dto.FollowingMemberListDto(m.id, m.nickname, m.image) " +
+            "FROM Follow f JOIN f.follower m WHERE f.following.id = :memberId ORDER BY f.id DESC")
+    Slice<FollowingMemberListDto> findFollowerList(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 팔로우 관계 캐시 적재 - 내가 팔로우 하는 회원 id
+    @Query("SELECT new sideproject.petmeeting.follow.domain.dto.FollowEdgeDto(f.following.id, f.id) " +
+            "FROM Follow f WHERE f.follower.id = :memberId")
+    List<FollowEdgeDto> findFollowingEdges(@Param("memberId") Long memberId);
+
+    // 팔로우 관계 캐시 적재 - 내가 팔로우 하는 회원 id(최대 개수 제한)
+    @Query("SELECT new sideproject.petmeeting.follow.domain.dto.FollowEdgeDto(f.following.id, f.id) " +
+            "FROM Follow f WHERE f.follower.id = :memberId")
+    List<FollowEdgeDto> findFollowingEdges(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 회원 id 목록 중 내가 팔로우 하는 회원 id(팔로우 관계를 캐시하지 않는 회원)
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :memberIds")
+    List<Long> findFollowingIdsIn(@Param("followerId") Long followerId, @Param("memberIds") Collection<Long> memberIds);
+
+    // 중복 팔로우 id 조회 - 같은 (follower, follow_member) 중 가장 먼저 저장된 팔로우를 제외한 나머지
+    @Query("SELECT f.id FROM Follow f WHERE EXISTS (SELECT f2.id FROM Follow f2 " +
+            "WHERE f2.follower = f.follower AND f2.following = f.following AND f2.id < f.id)")
+    List<Long> findDuplicateIds();
+
+    // 팔로우 관계 캐시 적재 - 나를 팔로우 하는 회원 id
+    @Query("SELECT new sideproject.petmeeting.follow.domain.dto.FollowEdgeDto(f.follower.id, f.id) " +
+            "FROM Follow f WHERE f.following.id = :memberId")
+    List<FollowEdgeDto> findFollowerEdges(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,67 @@
+package sideproject.petmeeting.follow.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.common.migration.DataMigrationRunner;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import java.util.List;
+
+/**
+ * 팔로우 데이터 보정(한 번만 실행)
+ * 유니크 제약(uk_follow_follower_following) 추가 전에 저장된 중복 팔로우를 삭제하고,
+ * 팔로워/팔로잉 수 컬럼 추가 전에 저장된 팔로우가 반영되도록 팔로우 테이블 기준으로 다시 계산
+ * (유니크 제약이 없는 기존 DB 는 이 보정이 끝난 뒤 제약을 추가)
+ * 완료 후에는 팔로우/언팔로우가 수를 함께 갱신하므로, 서버 시작 때마다 다시 계산해 갱신 중인 수를 덮어쓰지 않도록 DataMigrationRunner 로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountInitializer {
+    private static final String MIGRATION_NAME = "follow-count-backfill";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final FollowRepository followRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataMigrationRunner dataMigrationRunner;
+
+    /**
+     * 서버 시작 시 보정 기록이 없으면 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        dataMigrationRunner.runOnce(MIGRATION_NAME, this::backfill);
+    }
+
+    /**
+     * 중복 팔로우 삭제 후 회원을 id 커서로 일정 개수씩 나누어 팔로워/팔로잉 수를 다시 계산, 배치 마다 트랜잭션 커밋
+     */
+    public void backfill() {
+        List<Long> duplicateIds = followRepository.findDuplicateIds();
+        for (int from = 0; from < duplicateIds.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = duplicateIds.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, duplicateIds.size()));
+            transactionTemplate.executeWithoutResult(status -> followRepository.deleteAllByIdInBatch(batch));
+        }
+
+        long lastMemberId = 0L;
+        List<Long> memberIds;
+        do {
+            memberIds = memberRepository.findIdsAfter(lastMemberId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (memberIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = memberIds;
+            transactionTemplate.executeWithoutResult(status -> memberRepository.syncFollowCount(batch));
+            lastMemberId = memberIds.get(memberIds.size() - 1);
+        } while (memberIds.size() == BACKFILL_BATCH_SIZE);
+
+        log.info("팔로우 데이터 보정 완료 : 중복 팔로우 {} 건 삭제", duplicateIds.size());
+    }
+}
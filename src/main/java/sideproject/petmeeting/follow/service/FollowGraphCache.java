@@ -0,0 +1,262 @@
+package sideproject.petmeeting.follow.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sideproject.petmeeting.follow.domain.dto.FollowEdgeDto;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 관계 캐시(Redis sorted set, 상대 회원 id -> 팔로우 id)
+ * follow:following:{memberId} - 내가 팔로우 하는 회원
+ * 처음 조회할 때 DB 에서 임시 key 에 적재한 뒤, 적재 중 팔로우/취소가 없었던 경우에만 RENAME 으로 한 번에 교체
+ * (follow:version:{memberId} - 팔로우/취소 마다 증가하는 버전, 적재 전후 버전이 다르면 적재한 값을 버림)
+ * 팔로우/취소는 트랜잭션 커밋 후 이미 적재된 캐시에만 반영
+ * 팔로우 수가 max-size 를 넘는 회원은 캐시하지 않고 표시(LARGE)만 남겨 DB 로 조회
+ * Redis 장애 시에는 (follower, follow_member) 유니크 인덱스를 타는 DB 조회로 대신 응답
+ * 팔로워/팔로잉 수는 Member 의 팔로워/팔로잉 수 컬럼을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphCache {
+    private static final String FOLLOWING_KEY = "follow:following:";
+    private static final String VERSION_KEY = "follow:version:";
+    // 팔로우 관계가 없는 회원도 적재 여부를 알 수 있도록 넣어두는 값(회원 id 와 겹치지 않음)
+    private static final String LOADED = "-";
+    // 팔로우 수가 많아 캐시하지 않는 회원 표시(회원 id 와 겹치지 않음)
+    private static final String LARGE = "+";
+
+    // 팔로우 여부 조회 - 1 : 팔로우, 0 : 팔로우 하지 않음, -1 : 적재 전, -2 : 캐시하지 않는 회원
+    private static final RedisScript<Long> IS_FOLLOWING_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "if redis.call('ZSCORE', KEYS[1], '" + LARGE + "') then return -2 end " +
+                    "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 1 end " +
+                    "return 0", Long.class);
+    // 회원 id set(KEYS[2]) 중 팔로우 하는 회원 조회 - 첫 번째 값은 결과(1 : 조회, -1 : 적재 전, -2 : 캐시하지 않는 회원)
+    // 캐시하지 않는 회원은 DB 에서 조회할 수 있도록 set 의 회원 id 를 모두 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FOLLOWING_IN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {'-1'} end " +
+                    "local large = redis.call('ZSCORE', KEYS[1], '" + LARGE + "') " +
+                    "local result = {large and '-2' or '1'} " +
+                    "for _, id in ipairs(redis.call('SMEMBERS', KEYS[2])) do " +
+                    "if large or redis.call('ZSCORE', KEYS[1], id) then table.insert(result, id) end end " +
+                    "return result", List.class);
+    // 임시 key 에 적재한 캐시로 교체 - 적재 시작 시점의 버전과 같고 아직 적재되지 않은 경우에만 교체
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[3]) or '0' " +
+                    "if version == ARGV[1] and redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "redis.call('RENAME', KEYS[2], KEYS[1]) redis.call('EXPIRE', KEYS[1], ARGV[2]) return 1 end " +
+                    "redis.call('DEL', KEYS[2]) return 0", Long.class);
+    // 팔로우/취소 버전 증가 - 적재 중인 캐시를 무효화
+    private static final RedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) redis.call('EXPIRE', KEYS[1], ARGV[1]) return version", Long.class);
+
+    // 적재된 캐시에만 추가(적재 전이면 다음 조회 때 DB 에서 전체 적재)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) end " +
+                    "return -1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+
+    @Value("${follow.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+    @Value("${follow.cache.max-size:5000}")
+    private int maxSize;
+
+    /**
+     * 팔로우 여부 확인
+     * @param followerId : 팔로우 하는 회원 id
+     * @param followingId : 팔로우 대상 회원 id
+     * @return : followerId 가 followingId 를 팔로우 하면 true
+     */
+    public boolean isFollowing(Long followerId, Long followingId) {
+        try {
+            String key = FOLLOWING_KEY + followerId;
+            Long result = stringRedisTemplate.execute(IS_FOLLOWING_SCRIPT, List.of(key), String.valueOf(followingId));
+            if (result != null && result == -1) {
+                load(followerId);
+                result = stringRedisTemplate.execute(IS_FOLLOWING_SCRIPT, List.of(key), String.valueOf(followingId));
+            }
+            if (result == null || result < 0) {
+                // 캐시하지 않는 회원이거나 적재 중 팔로우/취소가 있어 캐시를 교체하지 못한 경우
+                return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+            }
+            return result == 1;
+        } catch (RuntimeException e) {
+            log.warn("팔로우 캐시 조회 실패 : followerId = {}", followerId, e);
+            return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+        }
+    }
+
+    /**
+     * 회원 id set 중 팔로우 하는 회원 조회 - set 과 팔로우 관계 캐시를 한 번의 호출로 비교
+     * @param followerId : 팔로우 하는 회원 id
+     * @param candidateKey : 회원 id 를 저장한 Redis set key
+     * @return : set 의 회원 중 followerId 가 팔로우 하는 회원 id
+     */
+    public List<Long> findFollowingIn(Long followerId, String candidateKey) {
+        List<String> result = executeFollowingIn(followerId, candidateKey);
+        if ("-1".equals(result.get(0))) {
+            load(followerId);
+            result = executeFollowingIn(followerId, candidateKey);
+        }
+
+        if ("-1".equals(result.get(0))) {
+            // 적재 중 팔로우/취소가 있어 캐시를 교체하지 못한 경우
+            Set<String> candidates = stringRedisTemplate.opsForSet().members(candidateKey);
+            return candidates == null ? List.of() : findFollowingInDb(followerId, candidates);
+        }
+        List<String> memberIds = result.subList(1, result.size());
+        if ("-2".equals(result.get(0))) {
+            return findFollowingInDb(followerId, memberIds);
+        }
+        return memberIds.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * 맞팔로우 여부 확인
+     * @param memberId : 회원 id
+     * @param otherId : 상대 회원 id
+     * @return : 서로 팔로우 하면 true
+     */
+    public boolean isMutual(Long memberId, Long otherId) {
+        return isFollowing(memberId, otherId) && isFollowing(otherId, memberId);
+    }
+
+    /**
+     * 팔로우 반영 - 트랜잭션 커밋 후 적재된 캐시에 추가
+     * @param followerId : 팔로우 하는 회원 id
+     * @param followingId : 팔로우 대상 회원 id
+     * @param followId : 팔로우 id
+     */
+    public void follow(Long followerId, Long followingId, Long followId) {
+        afterCommit(() -> {
+            bumpVersion(followerId);
+            add(FOLLOWING_KEY + followerId, followingId, followId);
+        });
+    }
+
+    /**
+     * 팔로우 취소 반영 - 트랜잭션 커밋 후 캐시에서 제거
+     * @param followerId : 팔로우 하는 회원 id
+     * @param followingId : 팔로우 대상 회원 id
+     */
+    public void unfollow(Long followerId, Long followingId) {
+        afterCommit(() -> {
+            bumpVersion(followerId);
+            remove(FOLLOWING_KEY + followerId, followingId);
+        });
+    }
+
+
+    /**
+     * DB 에서 팔로우 관계를 임시 key 에 적재한 뒤 교체
+     * 적재 중 팔로우/취소가 반영되면(버전 변경) 교체하지 않고, 다음 조회 때 다시 적재
+     * @param memberId : 회원 id
+     */
+    private void load(Long memberId) {
+        String key = FOLLOWING_KEY + memberId;
+        String versionKey = VERSION_KEY + memberId;
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(LOADED, 0d));
+        List<FollowEdgeDto> edges = followRepository.findFollowingEdges(memberId, PageRequest.of(0, maxSize + 1));
+        if (edges.size() > maxSize) {
+            tuples.add(new DefaultTypedTuple<>(LARGE, 0d));
+        } else {
+            for (FollowEdgeDto edge : edges) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(edge.getMemberId()), edge.getFollowId().doubleValue()));
+            }
+        }
+
+        // 교체되지 않은 임시 key 는 만료
+        String loadingKey = key + ":loading:" + UUID.randomUUID();
+        stringRedisTemplate.opsForZSet().add(loadingKey, tuples);
+        stringRedisTemplate.expire(loadingKey, Duration.ofSeconds(ttlSeconds));
+        stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(key, loadingKey, versionKey),
+                version == null ? "0" : version, String.valueOf(ttlSeconds));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> executeFollowingIn(Long followerId, String candidateKey) {
+        List<String> result = stringRedisTemplate.execute(FOLLOWING_IN_SCRIPT, List.of(FOLLOWING_KEY + followerId, candidateKey));
+        return result == null || result.isEmpty() ? List.of("-1") : result;
+    }
+
+    private List<Long> findFollowingInDb(Long followerId, Collection<String> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> memberIds = candidates.stream().map(Long::valueOf).collect(Collectors.toSet());
+        return followRepository.findFollowingIdsIn(followerId, memberIds);
+    }
+
+    private void bumpVersion(Long memberId) {
+        try {
+            stringRedisTemplate.execute(BUMP_VERSION_SCRIPT, List.of(VERSION_KEY + memberId), String.valueOf(ttlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("팔로우 캐시 버전 갱신 실패 : memberId = {}", memberId, e);
+            delete(FOLLOWING_KEY + memberId);
+        }
+    }
+
+    private void add(String key, Long memberId, Long followId) {
+        try {
+            stringRedisTemplate.execute(ADD_SCRIPT, List.of(key), String.valueOf(memberId), String.valueOf(followId));
+        } catch (RuntimeException e) {
+            log.warn("팔로우 캐시 반영 실패 : key = {}", key, e);
+            delete(key);
+        }
+    }
+
+    private void remove(String key, Long memberId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(key, String.valueOf(memberId));
+        } catch (RuntimeException e) {
+            log.warn("팔로우 캐시 반영 실패 : key = {}", key, e);
+            delete(key);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("팔로우 캐시 삭제 실패 : key = {}", key, e);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
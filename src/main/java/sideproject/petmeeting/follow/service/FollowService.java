@@ -1,75 +1,158 @@
 package sideproject.petmeeting.follow.service;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.follow.domain.Follow;
 import sideproject.petmeeting.follow.domain.dto.FollowRequestDto;
+import sideproject.petmeeting.follow.domain.dto.FollowStatusDto;
 import sideproject.petmeeting.follow.domain.dto.FollowingMemberListDto;
 import sideproject.petmeeting.follow.repository.FollowRepository;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.timeline.service.TimelineWriter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Optional;
 
+import static sideproject.petmeeting.common.exception.ErrorCode.CANNOT_FOLLOW_SELF;
 import static sideproject.petmeeting.common.exception.ErrorCode.FOLLOW_NOT_EXIST;
 import static sideproject.petmeeting.common.exception.ErrorCode.MEMBER_NOT_EXIST;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FollowService {
 
     // == Dependency Injection ==//
     private final MemberRepository memberRepository;
     private final FollowRepository followRepository;
+    private final FollowGraphCache followGraphCache;
+    private final TimelineWriter timelineWriter;
+    // 팔로우 저장용 트랜잭션 - 호출한 쪽에 트랜잭션이 있어도 항상 새 트랜잭션에서 실행
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    public FollowService(MemberRepository memberRepository,
+                         FollowRepository followRepository,
+                         FollowGraphCache followGraphCache,
+                         TimelineWriter timelineWriter,
+                         PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.followRepository = followRepository;
+        this.followGraphCache = followGraphCache;
+        this.timelineWriter = timelineWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 팔로우 - 이미 팔로우 중이면 기존 팔로우를 그대로 반환, 내 타임라인은 다시 적재
+     * 동시에 같은 팔로우 요청이 들어오면 (follower, follow_member) 유니크 제약으로 한 건만 저장되고, 나머지 요청은 저장된 팔로우를 반환
+     * @param followRequestDto : 팔로우 할 회원 id
+     * @param member : 로그인한 회원
+     * @return : 팔로우
+     */
+    // 저장은 별도 트랜잭션에서 실행, 유니크 제약 위반 시 롤백된 트랜잭션 밖에서 저장된 팔로우를 다시 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Follow follow(FollowRequestDto followRequestDto, Member member) {
-        Member followMember = memberRepository.findById(followRequestDto.getFollowMemberId()).orElseThrow(
+        Long followMemberId = followRequestDto.getFollowMemberId();
+        if (member.getId().equals(followMemberId)) {
+            throw new BusinessException("자기 자신은 팔로우 할 수 없습니다.", CANNOT_FOLLOW_SELF);
+        }
+
+        Optional<Follow> existingFollow = followRepository.findByFollowerIdAndFollowingId(member.getId(), followMemberId);
+        if (existingFollow.isPresent()) {
+            return existingFollow.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> insertFollow(member, followMemberId));
+        } catch (DataIntegrityViolationException e) {
+            return followRepository.findByFollowerIdAndFollowingId(member.getId(), followMemberId).orElseThrow(() -> e);
+        }
+    }
+
+    private Follow insertFollow(Member member, Long followMemberId) {
+        Member followMember = memberRepository.findById(followMemberId).orElseThrow(
                 () -> new BusinessException("회원이 존재하지 않습니다.", MEMBER_NOT_EXIST)
         );
 
-        Follow follow = Follow.builder()
+        Follow follow = followRepository.saveAndFlush(Follow.builder()
                 .following(followMember)
                 .follower(member)
-                .build();
-        return followRepository.save(follow);
+                .build());
+        memberRepository.increaseFollowCount(member.getId(), followMemberId);
+        followGraphCache.follow(member.getId(), followMemberId, follow.getId());
+        timelineWriter.invalidate(member.getId());
+        return follow;
     }
 
+    /**
+     * 팔로우 취소 - 내가 한 팔로우만 취소, 실제로 삭제된 경우에만 팔로워/팔로잉 수 감소 및 내 타임라인 다시 적재
+     * @param followId : 팔로우 id
+     * @param member : 로그인한 회원
+     */
     @Transactional
-    public void unfollow(Long followId) {
-        Follow follow = followRepository.findById(followId).orElseThrow(
+    public void unfollow(Long followId, Member member) {
+        Long followingId = followRepository.findFollowingIdByIdAndFollowerId(followId, member.getId()).orElseThrow(
                 () -> new BusinessException("해당 팔로우가 존재하지 않습니다.", FOLLOW_NOT_EXIST)
         );
-        followRepository.delete(follow);
-    }
 
-    public List<FollowingMemberListDto> getFollowingMemberList(Member member) {
-        List<Follow> followingMemberList = followRepository.findAllByFollower(member);
-        List<FollowingMemberListDto> memberList = new ArrayList<>();
-        for (Follow follow : followingMemberList) {
-            memberList.add(FollowingMemberListDto.builder()
-                    .memberId(follow.getFollowing().getId())
-                    .memberNickname(follow.getFollowing().getNickname())
-                    .memberImage(follow.getFollowing().getImage())
-                    .build());
+        if (followRepository.deleteByIdAndFollowerId(followId, member.getId()) == 0) {
+            return;
         }
-        return memberList;
+        memberRepository.decreaseFollowCount(member.getId(), followingId);
+        followGraphCache.unfollow(member.getId(), followingId);
+        timelineWriter.invalidate(member.getId());
     }
 
-    public List<FollowingMemberListDto> getFollowerList(Member member) {
-        List<Follow> followerList = followRepository.findAllByFollowing(member);
-        List<FollowingMemberListDto> memberList = new ArrayList<>();
-        for (Follow follow : followerList) {
-            memberList.add(FollowingMemberListDto.builder()
-                    .memberId(follow.getFollower().getId())
-                    .memberNickname(follow.getFollower().getNickname())
-                    .memberImage(follow.getFollower().getImage())
-                    .build());
-        }
-        return memberList;
+    /**
+     * 팔로잉 목록 조회
+     * @param member : 회원
+     * @param page : 페이지 번호
+     * @param size : 페이지 크기
+     * @return : 내가 팔로우 하는 회원 목록(최근 팔로우 순)
+     */
+    public Slice<FollowingMemberListDto> getFollowingMemberList(Member member, int page, int size) {
+        return followRepository.findFollowingMemberList(member.getId(), PageRequest.of(page, size));
+    }
+
+    /**
+     * 팔로워 목록 조회
+     * @param member : 회원
+     * @param page : 페이지 번호
+     * @param size : 페이지 크기
+     * @return : 나를 팔로우 하는 회원 목록(최근 팔로우 순)
+     */
+    public Slice<FollowingMemberListDto> getFollowerList(Member member, int page, int size) {
+        return followRepository.findFollowerList(member.getId(), PageRequest.of(page, size));
+    }
+
+    /**
+     * 팔로우 상태 조회 - 팔로우 여부, 맞팔로우 여부, 상대 회원의 팔로잉/팔로워 수
+     * @param member : 회원
+     * @param memberId : 상대 회원 id
+     * @return : 팔로우 상태
+     */
+    public FollowStatusDto getFollowStatus(Member member, Long memberId) {
+        Member target = memberRepository.findById(memberId).orElseThrow(
+                () -> new BusinessException("회원이 존재하지 않습니다.", MEMBER_NOT_EXIST)
+        );
+
+        boolean following = followGraphCache.isFollowing(member.getId(), memberId);
+        boolean followed = followGraphCache.isFollowing(memberId, member.getId());
+        return FollowStatusDto.builder()
+                .memberId(memberId)
+                .following(following)
+                .followed(followed)
+                .mutual(following && followed)
+                .followingCount(target.getFollowingCount())
+                .followerCount(target.getFollowerCount())
+                .build();
     }
 }
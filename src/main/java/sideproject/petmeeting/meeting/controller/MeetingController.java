@@ -1,6 +1,7 @@
 package sideproject.petmeeting.meeting.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,9 +20,11 @@ import sideproject.petmeeting.security.UserDetailsImpl;
 
 import javax.validation.Valid;
 import java.io.IOException;
+import java.time.LocalDateTime;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @RequiredArgsConstructor
 @RestController
@@ -66,13 +69,25 @@ public class MeetingController {
 
     /**
      * 모임 전체 조회
+     * 조건이 하나라도 있으면 지난 모임을 제외하고 모임 시간순으로 조회
      *
-     * @param pageNum : 조회할 페이지 번호
+     * @param pageNum   : 조회할 페이지 번호
+     * @param species   : 반려 동물 종
+     * @param from      : 조회 시작 시간
+     * @param to        : 조회 종료 시간
+     * @param available : 모집 중인 모임만 조회
      * @return :
      */
     @GetMapping
-    public ResponseEntity<Object> getAllMeeting(@RequestParam("page") int pageNum) {
-        MeetingPageResponseDto meetingPageResponseDto = meetingService.getAllMeeting(pageNum);
+    public ResponseEntity<Object> getAllMeeting(@RequestParam("page") int pageNum,
+                                                @RequestParam(value = "species", required = false) String species,
+                                                @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime from,
+                                                @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime to,
+                                                @RequestParam(value = "available", defaultValue = "false") boolean available) {
+        boolean filtered = species != null || from != null || to != null || available;
+        MeetingPageResponseDto meetingPageResponseDto = filtered
+                ? meetingService.getFilteredMeeting(pageNum, species, from, to, available)
+                : meetingService.getAllMeeting(pageNum);
 
         ResponseResource responseResource = new ResponseResource(meetingPageResponseDto);
         responseResource.add(linkTo(MeetingController.class).withSelfRel());
@@ -83,6 +98,35 @@ public class MeetingController {
     }
 
 
+    /**
+     * 내 주변 모임 조회(거리순)
+     *
+     * @param latitude  : 기준 위도
+     * @param longitude : 기준 경도
+     * @param radius    : 검색 반경(m, 기본 3000, 최대 50000)
+     * @param cursor    : 이전 응답의 nextCursor, 첫 페이지 조회 시 생략
+     * @return :
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<Object> getNearbyMeeting(@RequestParam("latitude") double latitude,
+                                                   @RequestParam("longitude") double longitude,
+                                                   @RequestParam(value = "radius", defaultValue = "3000") double radius,
+                                                   @RequestParam(value = "cursor", required = false) String cursor) {
+        MeetingPageResponseDto meetingPageResponseDto = meetingService.getNearbyMeeting(latitude, longitude, radius, cursor);
+
+        ResponseResource responseResource = new ResponseResource(meetingPageResponseDto);
+        responseResource.add(linkTo(methodOn(MeetingController.class).getNearbyMeeting(latitude, longitude, radius, cursor)).withSelfRel());
+        if (meetingPageResponseDto.getNextCursor() != null) {
+            responseResource.add(linkTo(methodOn(MeetingController.class)
+                    .getNearbyMeeting(latitude, longitude, radius, meetingPageResponseDto.getNextCursor())).withRel("next"));
+        }
+
+        Response response = new Response(StatusEnum.OK, "모임 조회 성공", responseResource);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+
     /**
      * 모임 단건 조회
      *
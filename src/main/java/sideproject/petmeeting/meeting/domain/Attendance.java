@@ -17,6 +17,7 @@ import static javax.persistence.FetchType.LAZY;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_attendance_meeting_member", columnNames = {"meeting_id", "member_id"}))
 public class Attendance extends Timestamped {
 
     @Id
@@ -30,6 +30,11 @@ import static javax.persistence.FetchType.LAZY;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_meeting_latitude_longitude", columnList = "latitude, longitude"),
+        @Index(name = "idx_meeting_species_time", columnList = "species, time"),
+        @Index(name = "idx_meeting_time", columnList = "time")
+})
 public class Meeting extends Timestamped {
 
     @Id
@@ -54,6 +59,11 @@ public class Meeting extends Timestamped {
     @NotEmpty
     private String coordinateY;
 
+    // 거리 검색용 좌표(coordinateY, coordinateX 를 숫자로 변환한 값)
+    private Double latitude;
+
+    private Double longitude;
+
     @NotEmpty
     private String placeName;
 
@@ -103,8 +113,20 @@ public class Meeting extends Timestamped {
         this.species = meetingRequestDto.getSpecies();
     }
 
-    public void countNum(Integer currentNum) {
-        this.currentNum = currentNum;
+    // 문자열 좌표를 거리 검색용 숫자 좌표로 변환, 숫자가 아니면 거리 검색에서 제외
+    @PrePersist
+    @PreUpdate
+    public void syncCoordinate() {
+        this.latitude = parseCoordinate(coordinateY);
+        this.longitude = parseCoordinate(coordinateX);
+    }
+
+    private static Double parseCoordinate(String coordinate) {
+        try {
+            return coordinate == null ? null : Double.valueOf(coordinate);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
 
@@ -0,0 +1,38 @@
+package sideproject.petmeeting.meeting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 모임 조회 커서 - 마지막으로 조회한 모임의 (거리 정렬 값, id)
+ * 클라이언트에는 Base64 로 인코딩 된 문자열로만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingCursor {
+    private static final String DELIMITER = "_";
+
+    private double score;
+    private Long id;
+
+    public String encode() {
+        String raw = score + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MeetingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new MeetingCursor(Double.parseDouble(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException("올바르지 않은 커서 값입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
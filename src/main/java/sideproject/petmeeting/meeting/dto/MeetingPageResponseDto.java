@@ -1,5 +1,6 @@
 package sideproject.petmeeting.meeting.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,4 +16,6 @@ public class MeetingPageResponseDto {
     private boolean isFirstPage;
     private boolean hasNextPage;
     private boolean hasPreviousPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
@@ -10,7 +10,7 @@ import sideproject.petmeeting.member.domain.Member;
 import java.time.LocalDateTime;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -34,4 +34,16 @@ public class MeetingResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
     private List<Member> memberList;
+    private Double distance;
+
+    /**
+     * 목록 조회용 생성자(JPQL 생성자 프로젝션, 참석자 목록과 거리 제외)
+     */
+    public MeetingResponseDto(Long id, String title, String content, String imageUrl, String address,
+                              String coordinateX, String coordinateY, String placeName, LocalDateTime time,
+                              int recruitNum, int currentNum, String species, Long authorId, String authorNickname,
+                              String authorImageUrl, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, content, imageUrl, address, coordinateX, coordinateY, placeName, time, recruitNum, currentNum,
+                species, authorId, authorNickname, authorImageUrl, createdAt, modifiedAt, null, null);
+    }
 }
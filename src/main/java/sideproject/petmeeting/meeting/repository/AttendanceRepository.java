@@ -1,6 +1,7 @@
 package sideproject.petmeeting.meeting.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.meeting.domain.Attendance;
@@ -19,6 +20,11 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long>  {
     @Query("select a from Attendance a left join fetch a.member where a.meeting.id = :meetingId")
     List<Attendance> findMemberFetchJoin(@Param("meetingId")Long meetingId);
 
-    // 모임 참여 인원 카운트
-    Integer countByMeetingId(@Param("meetingId")Long meetingId);
+    // 모임 참여 여부 확인(id 로 조회)
+    boolean existsByMeetingIdAndMemberId(Long meetingId, Long memberId);
+
+    // 모임 참석 취소(삭제된 row 수로 참석 여부 확인)
+    @Modifying
+    @Query("delete from Attendance a where a.meeting.id = :meetingId and a.member.id = :memberId")
+    int deleteByMeetingIdAndMemberId(@Param("meetingId") Long meetingId, @Param("memberId") Long memberId);
 }
@@ -1,11 +1,17 @@
 package sideproject.petmeeting.meeting.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sideproject.petmeeting.meeting.domain.Meeting;
+import sideproject.petmeeting.meeting.dto.MeetingResponseDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +21,63 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     @Query("select mt from Meeting mt left join fetch mt.member where mt.id = :meetingId")
     Optional<Meeting> findMeetingIdFetchJoin(@Param("meetingId")Long meetingId);
 
-    List<Meeting> findAllByMemberId(Long id);
+    // 마이페이지 내가 만든 모임 조회(작성자 컬럼까지 DTO 로 한 번에 조회, count 쿼리 없음)
+    @Query("select new sideproject.petmeeting.meeting.dto.MeetingResponseDto(mt.id, mt.title, mt.content, mt.imageUrl, " +
+            "mt.address, mt.coordinateX, mt.coordinateY, mt.placeName, mt.time, mt.recruitNum, mt.currentNum, mt.species, " +
+            "m.id, m.nickname, m.image, mt.createdAt, mt.modifiedAt) " +
+            "from Meeting mt join mt.member m where m.id = :memberId order by mt.id desc")
+    Slice<MeetingResponseDto> findMyMeetingList(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 모임 참석 인원 증가 - 모집 인원 미만인 경우에만 증가(0 이면 마감 또는 존재하지 않는 모임)
+    @Modifying(clearAutomatically = true)
+    @Query("update Meeting mt set mt.currentNum = mt.currentNum + 1 where mt.id = :meetingId and mt.currentNum < mt.recruitNum")
+    int increaseCurrentNum(@Param("meetingId") Long meetingId);
+
+    // 모임 참석 인원 감소
+    @Modifying
+    @Query("update Meeting mt set mt.currentNum = mt.currentNum - 1 where mt.id = :meetingId and mt.currentNum > 0")
+    int decreaseCurrentNum(@Param("meetingId") Long meetingId);
 
     Optional<Meeting> findByTitle(String title);
 
+    // 기간 내 모임 조회(time 인덱스), available 이 true 면 모집 중인 모임만 조회
+    @Query(value = "select mt from Meeting mt left join fetch mt.member " +
+            "where mt.time >= :from and mt.time < :to and (:available = false or mt.currentNum < mt.recruitNum)",
+            countQuery = "select count(mt) from Meeting mt " +
+                    "where mt.time >= :from and mt.time < :to and (:available = false or mt.currentNum < mt.recruitNum)")
+    Page<Meeting> findAllByTime(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                @Param("available") boolean available, Pageable pageable);
+
+    // 반려 동물 종, 기간 내 모임 조회((species, time) 인덱스), available 이 true 면 모집 중인 모임만 조회
+    @Query(value = "select mt from Meeting mt left join fetch mt.member " +
+            "where mt.species = :species and mt.time >= :from and mt.time < :to " +
+            "and (:available = false or mt.currentNum < mt.recruitNum)",
+            countQuery = "select count(mt) from Meeting mt " +
+                    "where mt.species = :species and mt.time >= :from and mt.time < :to " +
+                    "and (:available = false or mt.currentNum < mt.recruitNum)")
+    Page<Meeting> findAllBySpeciesAndTime(@Param("species") String species, @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to, @Param("available") boolean available,
+                                          Pageable pageable);
+
+    // 거리 정렬 값 - 위도 차이² + (경도 차이 * cos(기준 위도))², MeetingService 의 계산 순서와 같아야 커서 비교 값이 일치
+    String NEARBY_SCORE = "((mt.latitude - :latitude) * (mt.latitude - :latitude) " +
+            "+ (mt.longitude - :longitude) * :cosLatitude * (mt.longitude - :longitude) * :cosLatitude)";
+
+    // 거리순 모임 조회 - 좌표 범위(bounding box) 안에서 반경 이내이고 커서(score, id) 이후인 모임을 가까운 순으로 limit 만큼 조회
+    @Query("select mt from Meeting mt left join fetch mt.member " +
+            "where mt.latitude between :minLatitude and :maxLatitude and mt.longitude between :minLongitude and :maxLongitude " +
+            "and " + NEARBY_SCORE + " <= :maxScore " +
+            "and (" + NEARBY_SCORE + " > :cursorScore or (" + NEARBY_SCORE + " = :cursorScore and mt.id > :cursorId)) " +
+            "order by " + NEARBY_SCORE + " asc, mt.id asc")
+    List<Meeting> findNearby(@Param("latitude") double latitude, @Param("longitude") double longitude,
+                             @Param("cosLatitude") double cosLatitude,
+                             @Param("minLatitude") double minLatitude, @Param("maxLatitude") double maxLatitude,
+                             @Param("minLongitude") double minLongitude, @Param("maxLongitude") double maxLongitude,
+                             @Param("maxScore") double maxScore, @Param("cursorScore") double cursorScore,
+                             @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 거리 검색용 좌표가 없는 모임 조회(id 커서) - 좌표 컬럼 추가 전에 저장된 모임 보정용
+    @Query("select mt from Meeting mt where mt.latitude is null and mt.id > :meetingId order by mt.id asc")
+    List<Meeting> findAllWithoutCoordinate(@Param("meetingId") Long meetingId, Pageable pageable);
+
 }
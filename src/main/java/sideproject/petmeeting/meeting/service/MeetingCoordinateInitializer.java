@@ -0,0 +1,56 @@
+package sideproject.petmeeting.meeting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.meeting.domain.Meeting;
+import sideproject.petmeeting.meeting.repository.MeetingRepository;
+
+import java.util.List;
+
+/**
+ * 서버 시작 시 거리 검색용 좌표(latitude, longitude)가 없는 모임의 좌표 보정
+ * 좌표 컬럼 추가 전에 저장된 모임은 null 이라 내 주변 모임 조회에서 제외되므로 coordinateY, coordinateX 로 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingCoordinateInitializer {
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 좌표 보정 - 좌표가 없는 모임을 id 커서로 일정 개수씩 나누어 조회하고 배치 마다 트랜잭션 커밋
+     * 좌표가 숫자가 아닌 모임은 null 로 남고 다음 배치에서 다시 조회하지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastMeetingId = 0L;
+        int updated = 0;
+        List<Meeting> meetings;
+        do {
+            long meetingId = lastMeetingId;
+            meetings = transactionTemplate.execute(status -> {
+                List<Meeting> batch = meetingRepository.findAllWithoutCoordinate(meetingId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                batch.forEach(Meeting::syncCoordinate);
+                return batch;
+            });
+            for (Meeting meeting : meetings) {
+                if (meeting.getLatitude() != null) {
+                    updated++;
+                }
+            }
+            if (!meetings.isEmpty()) {
+                lastMeetingId = meetings.get(meetings.size() - 1).getId();
+            }
+        } while (meetings.size() == BACKFILL_BATCH_SIZE);
+
+        log.info("모임 거리 검색 좌표 보정 완료 : {} 건", updated);
+    }
+}
@@ -1,19 +1,27 @@
 package sideproject.petmeeting.meeting.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import sideproject.petmeeting.chat.domain.ChatMember;
+import sideproject.petmeeting.chat.repository.ChatMemberRepository;
+import sideproject.petmeeting.chat.repository.ChatRoomRepository;
+import sideproject.petmeeting.common.RedisReadThroughCache;
 import sideproject.petmeeting.common.S3Uploader;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.common.exception.ErrorCode;
 import sideproject.petmeeting.meeting.domain.Attendance;
 import sideproject.petmeeting.meeting.domain.Meeting;
 import sideproject.petmeeting.meeting.dto.AttendanceResponseDto;
+import sideproject.petmeeting.meeting.dto.MeetingCursor;
 import sideproject.petmeeting.meeting.dto.MeetingPageResponseDto;
 import sideproject.petmeeting.meeting.dto.MeetingRequestDto;
 import sideproject.petmeeting.meeting.dto.MeetingResponseDto;
@@ -22,6 +30,7 @@ import sideproject.petmeeting.meeting.repository.MeetingRepository;
 import sideproject.petmeeting.member.domain.Member;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,19 +38,38 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Service
 public class MeetingService {
+    private static final String MEETING_CACHE_KEY = "meeting:detail:";
+    private static final int NEARBY_SIZE = 15;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double MAX_RADIUS_METERS = 50_000;
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     private final MeetingRepository meetingRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMemberRepository chatMemberRepository;
     private final S3Uploader s3Uploader;
+    private final RedisReadThroughCache redisReadThroughCache;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 모임 생성
      * @param meetingRequestDto : 모임 작성에 필요한 데이터
      */
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 실행, 저장은 업로드가 끝난 뒤 별도 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MeetingResponseDto createMeeting(MeetingRequestDto meetingRequestDto, MultipartFile image, Member member) throws IOException {
         String imageUrl = s3Uploader.upload(image, "meeting/image");
 
+        try {
+            return transactionTemplate.execute(status -> saveMeeting(meetingRequestDto, imageUrl, member));
+        } catch (RuntimeException e) {
+            s3Uploader.deleteUnusedImage(imageUrl, "meeting/image");
+            throw e;
+        }
+    }
+
+    private MeetingResponseDto saveMeeting(MeetingRequestDto meetingRequestDto, String imageUrl, Member member) {
         Meeting meeting = Meeting.builder()
                 .title(meetingRequestDto.getTitle())
                 .content(meetingRequestDto.getContent())
@@ -52,20 +80,19 @@ public class MeetingService {
                 .placeName(meetingRequestDto.getPlaceName())
                 .time(meetingRequestDto.getTime())
                 .recruitNum(meetingRequestDto.getRecruitNum())
+                .currentNum(1)
                 .species(meetingRequestDto.getSpecies())
                 .member(member)
                 .build();
         meetingRepository.save(meeting);
 
+        // 모임 작성자는 모임에 자동 참석
         Attendance attendance = Attendance.builder()
                 .meeting(meeting)
                 .member(member)
                 .build();
         attendanceRepository.save(attendance);
 
-        Integer count = attendanceRepository.countByMeetingId(meeting.getId());
-        meeting.countNum(count);
-
         return getMeetingResponseDto(meeting);
 
     }
@@ -104,18 +131,121 @@ public class MeetingService {
 
     }
 
+    /**
+     * 모임 조건 조회(모임 시간순)
+     * 지난 모임은 제외하고, species 가 있으면 (species, time) 인덱스, 없으면 time 인덱스로 조회
+     * @param pageNum : 조회할 페이지 번호
+     * @param species : 반려 동물 종, 전체 조회 시 null
+     * @param from : 조회 시작 시간, 현재 시간 이전이거나 null 이면 현재 시간
+     * @param to : 조회 종료 시간(포함하지 않음), 제한이 없으면 null
+     * @param available : 모집 중인 모임만 조회할지 여부
+     * @return : 조건에 맞는 모임, 페이지 정보
+     */
+    @Transactional(readOnly = true)
+    public MeetingPageResponseDto getFilteredMeeting(int pageNum, String species, LocalDateTime from, LocalDateTime to, boolean available) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime end = to == null ? MAX_TIME : to;
+        Pageable pageRequest = PageRequest.of(pageNum, 15, Sort.by("time").ascending().and(Sort.by("id").ascending()));
+
+        Page<Meeting> meetingPage = species == null
+                ? meetingRepository.findAllByTime(start, end, available, pageRequest)
+                : meetingRepository.findAllBySpeciesAndTime(species, start, end, available, pageRequest);
+
+        List<MeetingResponseDto> meetingResponseDtoList = new ArrayList<>();
+        for (Meeting meeting : meetingPage.getContent()) {
+            meetingResponseDtoList.add(
+                    getMeetingResponseDto(meeting)
+            );
+        }
+
+        return MeetingPageResponseDto.builder()
+                .meetingList(meetingResponseDtoList)
+                .totalPage(meetingPage.getTotalPages() - 1)
+                .currentPage(pageNum)
+                .isFirstPage(meetingPage.isFirst())
+                .hasNextPage(meetingPage.hasNext())
+                .hasPreviousPage(meetingPage.hasPrevious())
+                .build();
+    }
+
+    /**
+     * 내 주변 모임 조회(거리순, 커서 방식)
+     * 반경을 감싸는 좌표 범위(bounding box)를 (latitude, longitude) 인덱스로 조회하면서 반경, 커서 조건과 거리 정렬, limit 까지 DB 에서 처리
+     * 거리는 위도에 따라 경도 간격을 보정한 평면 거리(equirectangular)로 계산 - 최대 반경(50km) 안에서는 실제 거리와의 오차가 작음
+     * 좌표(coordinateX, coordinateY)가 숫자가 아닌 모임은 latitude, longitude 가 null 이므로 조회되지 않음
+     * @param latitude : 기준 위도
+     * @param longitude : 기준 경도
+     * @param radius : 검색 반경(m)
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 null
+     * @return : 거리순 모임, 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public MeetingPageResponseDto getNearbyMeeting(double latitude, double longitude, double radius, String cursor) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180 || radius <= 0) {
+            throw new BusinessException("잘못된 좌표 또는 반경입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+        double searchRadius = Math.min(radius, MAX_RADIUS_METERS);
+        MeetingCursor meetingCursor = cursor == null ? null : MeetingCursor.decode(cursor);
+
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double latitudeDelta = Math.toDegrees(searchRadius / EARTH_RADIUS_METERS);
+        double longitudeDelta = Math.min(180, latitudeDelta / cosLatitude);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Meeting> meetingList = meetingRepository.findNearby(
+                latitude, longitude, cosLatitude,
+                latitude - latitudeDelta, latitude + latitudeDelta, longitude - longitudeDelta, longitude + longitudeDelta,
+                latitudeDelta * latitudeDelta,
+                meetingCursor == null ? -1 : meetingCursor.getScore(),
+                meetingCursor == null ? 0L : meetingCursor.getId(),
+                PageRequest.of(0, NEARBY_SIZE + 1));
+
+        boolean hasNextPage = meetingList.size() > NEARBY_SIZE;
+        if (hasNextPage) {
+            meetingList = meetingList.subList(0, NEARBY_SIZE);
+        }
+
+        List<MeetingResponseDto> meetingResponseDtoList = new ArrayList<>();
+        for (Meeting meeting : meetingList) {
+            double score = nearbyScore(latitude, longitude, cosLatitude, meeting.getLatitude(), meeting.getLongitude());
+            meetingResponseDtoList.add(
+                    getMeetingResponseDto(meeting).toBuilder()
+                            .distance(Math.toRadians(Math.sqrt(score)) * EARTH_RADIUS_METERS)
+                            .build()
+            );
+        }
+
+        String nextCursor = null;
+        if (hasNextPage) {
+            Meeting lastMeeting = meetingList.get(meetingList.size() - 1);
+            double score = nearbyScore(latitude, longitude, cosLatitude, lastMeeting.getLatitude(), lastMeeting.getLongitude());
+            nextCursor = new MeetingCursor(score, lastMeeting.getId()).encode();
+        }
+
+        return MeetingPageResponseDto.builder()
+                .meetingList(meetingResponseDtoList)
+                .isFirstPage(cursor == null)
+                .hasNextPage(hasNextPage)
+                .hasPreviousPage(cursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 모임 단건 조회
+     * 조회 결과는 Redis 에 캐시, 트랜잭션은 캐시에 없을 때만 RedisReadThroughCache 가 읽기 전용으로 시작
      * @param meetingId : 조회할 모임 id
      * @return : 조회한 모임
      */
-    @Transactional(readOnly = true)
     public MeetingResponseDto getMeeting(Long meetingId) {
-        Meeting meeting = meetingRepository.findMeetingIdFetchJoin(meetingId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
-        );
+        return redisReadThroughCache.get(MEETING_CACHE_KEY + meetingId, MeetingResponseDto.class, () -> {
+            Meeting meeting = meetingRepository.findMeetingIdFetchJoin(meetingId).orElseThrow(
+                    () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
+            );
 
-        return getMeetingResponseDto(meeting);
+            return getMeetingResponseDto(meeting);
+        });
     }
 
 
@@ -127,8 +257,22 @@ public class MeetingService {
      * @return :
      * @throws IOException : IOException 예외 처리
      */
-    @Transactional
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드, 수정은 별도 트랜잭션에서 실행하고 이전 이미지는 커밋 후 삭제
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MeetingResponseDto updateMeeting(Long meetingId, MeetingRequestDto meetingRequestDto, MultipartFile image, Member member) throws IOException {
+        String newImageUrl = image == null ? null : s3Uploader.upload(image, "meeting/image");
+
+        try {
+            return transactionTemplate.execute(status -> modifyMeeting(meetingId, meetingRequestDto, newImageUrl, member));
+        } catch (RuntimeException e) {
+            if (newImageUrl != null) {
+                s3Uploader.deleteUnusedImage(newImageUrl, "meeting/image");
+            }
+            throw e;
+        }
+    }
+
+    private MeetingResponseDto modifyMeeting(Long meetingId, MeetingRequestDto meetingRequestDto, String newImageUrl, Member member) {
         Meeting meeting = meetingRepository.findById(meetingId).orElseThrow(
                 () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
         );
@@ -139,12 +283,13 @@ public class MeetingService {
 
         String imageUrl = meeting.getImageUrl();
 
-        if (image != null) {
-            s3Uploader.deleteImage(imageUrl, "meeting/image");
-            imageUrl = s3Uploader.upload(image, "meeting/image");
+        if (newImageUrl != null) {
+            s3Uploader.deleteImageAfterCommit(imageUrl, "meeting/image");
+            imageUrl = newImageUrl;
         }
 
         meeting.update(meetingRequestDto, imageUrl);
+        redisReadThroughCache.evict(MEETING_CACHE_KEY + meetingId);
 
         return getMeetingResponseDto(meeting);
     }
@@ -172,62 +317,72 @@ public class MeetingService {
         }
 
         meetingRepository.deleteById(meetingId);
+        redisReadThroughCache.evict(MEETING_CACHE_KEY + meetingId);
 
     }
 
     /**
      * 모임 참석
+     * 모집 인원 미만인 경우에만 참석 인원을 증가시키는 update 로 자리를 먼저 확보한 뒤 참석 정보 저장
+     * 모임 채팅방이 있으면 채팅방에도 가입
      * @param meetingId: 참석할 모임 id
      * @param member: 사용자 정보
      * @return : 참석한 모임 정보
      */
     @Transactional
     public MeetingResponseDto addAttendance(Long meetingId, Member member) {
-        Meeting meeting = meetingRepository.findById(meetingId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
-        );
-
-        if (attendanceRepository.findByMeetingAndMember(meeting, member).isPresent()) {
-            throw new BusinessException("이미 참여중인 모임입니다.", ErrorCode.ALREADY_ATTENDANCE_MEETING);
-        }
-
-        if (attendanceRepository.countByMeetingId(meetingId) >= meeting.getRecruitNum()) {
+        if (meetingRepository.increaseCurrentNum(meetingId) == 0) {
+            if (!meetingRepository.existsById(meetingId)) {
+                throw new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST);
+            }
+            if (attendanceRepository.existsByMeetingIdAndMemberId(meetingId, member.getId())) {
+                throw new BusinessException("이미 참여중인 모임입니다.", ErrorCode.ALREADY_ATTENDANCE_MEETING);
+            }
             throw new BusinessException("모집 인원이 마감되었습니다.", ErrorCode.MEETING_RECRUIT_FULL);
         }
 
         Attendance attendance = Attendance.builder()
-                .meeting(meeting)
+                .meeting(meetingRepository.getReferenceById(meetingId))
                 .member(member)
                 .build();
-        attendanceRepository.save(attendance);
 
-        Integer count = attendanceRepository.countByMeetingId(meetingId);
-        meeting.countNum(count);
+        // 중복 참석인 경우 예외 발생으로 트랜잭션이 롤백되어 증가한 참석 인원도 함께 취소
+        try {
+            attendanceRepository.saveAndFlush(attendance);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("이미 참여중인 모임입니다.", ErrorCode.ALREADY_ATTENDANCE_MEETING);
+        }
+        chatRoomRepository.findByMeetingId(meetingId).ifPresent(chatRoom -> chatMemberRepository.save(
+                ChatMember.builder()
+                        .chatRoom(chatRoom)
+                        .member(member)
+                        .build()));
+        redisReadThroughCache.evict(MEETING_CACHE_KEY + meetingId);
 
+        Meeting meeting = meetingRepository.findMeetingIdFetchJoin(meetingId).orElseThrow(
+                () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
+        );
         return getMeetingResponseDto(meeting);
     }
 
 
     /**
-     * 모임 참석 취소
+     * 모임 참석 취소 - 모임 채팅방에서도 탈퇴
      * @param meetingId: 취소할 모임 id
      * @param member: 사용자 정보
      */
     @Transactional
     public void deleteAttendance(Long meetingId, Member member) {
-        Meeting meeting = meetingRepository.findById(meetingId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST)
-        );
-
-        Optional<Attendance> attendanceOptional = attendanceRepository.findByMeetingAndMember(meeting, member);
-        if (attendanceOptional.isEmpty()) {
+        if (attendanceRepository.deleteByMeetingIdAndMemberId(meetingId, member.getId()) == 0) {
+            if (!meetingRepository.existsById(meetingId)) {
+                throw new BusinessException("존재하지 않는 모임 id 입니다.", ErrorCode.MEETING_NOT_EXIST);
+            }
             throw new BusinessException("참석 중인 모임이 아닙니다.", ErrorCode.ATTENDANCE_NOT_EXIST);
         }
 
-        attendanceRepository.delete(attendanceOptional.get());
-
-        Integer count = attendanceRepository.countByMeetingId(meetingId);
-        meeting.countNum(count);
+        meetingRepository.decreaseCurrentNum(meetingId);
+        chatMemberRepository.deleteByMeetingIdAndMemberId(meetingId, member.getId());
+        redisReadThroughCache.evict(MEETING_CACHE_KEY + meetingId);
 
 //        if (meeting.getMember().getId().equals(member.getId())) {
 //            meetingDelete(meetingId, member);
@@ -273,6 +428,13 @@ public class MeetingService {
     }
 
 
+    // 거리 정렬 값(위도 차이² + 보정한 경도 차이², 단위 도²) - MeetingRepository.NEARBY_SCORE 와 같은 순서로 계산해야 커서 비교 값이 일치
+    private static double nearbyScore(double latitude, double longitude, double cosLatitude,
+                                      double meetingLatitude, double meetingLongitude) {
+        return (meetingLatitude - latitude) * (meetingLatitude - latitude)
+                + (meetingLongitude - longitude) * cosLatitude * (meetingLongitude - longitude) * cosLatitude;
+    }
+
     /**
      * meeting 데이터를 meetingResponseDto 로 build
      * @param meeting : meeting 데이터
@@ -5,6 +5,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
@@ -23,8 +24,8 @@ import sideproject.petmeeting.member.emailvalidation.EmailServiceImpl;
 import sideproject.petmeeting.member.repository.MemberRepository;
 import sideproject.petmeeting.member.service.MemberService;
 import sideproject.petmeeting.member.validator.MemberValidator;
+import sideproject.petmeeting.security.UserDetailsImpl;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.io.IOException;
@@ -115,7 +116,7 @@ public class MemberController {
     }
 
     @PutMapping("/detail")
-    public ResponseEntity<Object> detailMember(@RequestBody @Valid MemberDetailRequestDto memberDetailRequestDto, HttpServletRequest httpServletRequest, Errors errors, HttpServletResponse httpServletResponse) {
+    public ResponseEntity<Object> detailMember(@RequestBody @Valid MemberDetailRequestDto memberDetailRequestDto, @AuthenticationPrincipal UserDetailsImpl userDetails, Errors errors, HttpServletResponse httpServletResponse) {
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
@@ -127,7 +128,7 @@ public class MemberController {
             return new ResponseEntity<>(response, headers, BAD_REQUEST);
         }
 
-        Member detailMember = memberService.detailMember(memberDetailRequestDto, httpServletRequest, httpServletResponse);
+        Member detailMember = memberService.detailMember(memberDetailRequestDto, userDetails.getMember(), httpServletResponse);
         ResponseResource responseResource = new ResponseResource(detailMember.getNickname());
         responseResource.add(linkTo(MemberController.class).slash("detail").withSelfRel());
         responseResource.add(linkTo(MemberController.class).slash("logout").withRel("logout"));
@@ -166,7 +167,7 @@ public class MemberController {
 
     @PutMapping
     public ResponseEntity updateMember(@RequestBody MemberUpdateRequest memberUpdateRequest,
-                                       HttpServletRequest httpServletRequest,
+                                       @AuthenticationPrincipal UserDetailsImpl userDetails,
                                        Errors errors,
                                        HttpServletResponse httpServletResponse) {
         Response response = new Response();
@@ -180,7 +181,7 @@ public class MemberController {
             return new ResponseEntity<>(response, headers, BAD_REQUEST);
         }
 
-        Member updateMember = memberService.update(memberUpdateRequest, httpServletRequest, httpServletResponse);
+        Member updateMember = memberService.update(memberUpdateRequest, userDetails.getMember(), httpServletResponse);
         ResponseResource responseResource = new ResponseResource(updateMember.getEmail());
         responseResource.add(linkTo(MemberController.class).withSelfRel());
         responseResource.add(linkTo(MemberController.class).slash("logout").withRel("logout"));
@@ -191,12 +192,12 @@ public class MemberController {
     }
 
     @DeleteMapping(value = "/logout")
-    public ResponseEntity logout(HttpServletRequest httpServletRequest) {
+    public ResponseEntity logout(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         Response response = new Response();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("application", "json", StandardCharsets.UTF_8));
 
-        memberService.logout(httpServletRequest);
+        memberService.logout(userDetails.getMember());
         ResponseResource responseResource = new ResponseResource(null);
         responseResource.add(linkTo(MemberController.class).withSelfRel());
         response.setStatus(StatusEnum.OK);
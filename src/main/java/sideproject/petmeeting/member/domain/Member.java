@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import sideproject.petmeeting.chat.domain.ChatMember;
 import sideproject.petmeeting.common.Timestamped;
 import sideproject.petmeeting.meeting.domain.Attendance;
@@ -35,6 +36,15 @@ public class Member extends Timestamped {
     private String location;
     @Enumerated(value = STRING)
     private UserRole userRole;
+    // 팔로워/팔로잉 수(팔로우, 팔로우 취소 시 UPDATE 로 증감)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int followerCount = 0;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int followingCount = 0;
     @OneToMany(mappedBy = "member")
     @Builder.Default
     private List<Post> post = new ArrayList<>();
@@ -1,11 +1,46 @@
 package sideproject.petmeeting.member.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.member.domain.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByNickname(String nickname);
     Optional<Member> findByEmail(String email);
+    List<Member> findAllByNicknameIn(Collection<String> nicknames);
+
+    // 팔로우 - 팔로우 하는 회원의 팔로잉 수, 대상 회원의 팔로워 수 증가(한 번의 UPDATE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followingCount = m.followingCount + CASE WHEN m.id = :followerId THEN 1 ELSE 0 END, " +
+            "m.followerCount = m.followerCount + CASE WHEN m.id = :followingId THEN 1 ELSE 0 END " +
+            "WHERE m.id IN (:followerId, :followingId)")
+    int increaseFollowCount(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 팔로우 취소 - 팔로잉 수, 팔로워 수 감소(0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followingCount = m.followingCount - CASE WHEN m.id = :followerId AND m.followingCount > 0 THEN 1 ELSE 0 END, " +
+            "m.followerCount = m.followerCount - CASE WHEN m.id = :followingId AND m.followerCount > 0 THEN 1 ELSE 0 END " +
+            "WHERE m.id IN (:followerId, :followingId)")
+    int decreaseFollowCount(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 팔로워/팔로잉 수 보정 - id 커서 이후의 회원 id
+    @Query("SELECT m.id FROM Member m WHERE m.id > :memberId ORDER BY m.id ASC")
+    List<Long> findIdsAfter(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 팔로워/팔로잉 수 보정 - 팔로우 테이블 기준으로 다시 계산
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followerCount = (SELECT COUNT(f) FROM Follow f WHERE f.following.id = m.id), " +
+            "m.followingCount = (SELECT COUNT(f) FROM Follow f WHERE f.follower.id = m.id) " +
+            "WHERE m.id IN :memberIds")
+    int syncFollowCount(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -14,11 +14,11 @@ import sideproject.petmeeting.member.dto.request.MemberDto;
 import sideproject.petmeeting.member.dto.request.MemberUpdateRequest;
 import sideproject.petmeeting.member.repository.MemberRepository;
 import sideproject.petmeeting.security.TokenProvider;
+import sideproject.petmeeting.security.UserDetailsServiceImpl;
 import sideproject.petmeeting.token.domain.RefreshToken;
 import sideproject.petmeeting.token.dto.TokenDto;
 import sideproject.petmeeting.token.repository.RefreshTokenRepository;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
@@ -35,6 +35,7 @@ public class MemberService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final S3Uploader s3Uploader;
+    private final UserDetailsServiceImpl userDetailsService;
 
     public Member join(MemberDto memberDto, MultipartFile image) throws ResponseStatusException, IOException {
 
@@ -65,18 +66,12 @@ public class MemberService {
 
     // 회원 가입 상세(닉네임, 지역)
     @Transactional
-    public Member detailMember(MemberDetailRequestDto memberDetailRequestDto, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new IllegalStateException("잘못된 접근입니다.");
-        }
-        tokenProvider.validateToken(httpServletRequest.getHeader("Authorization").substring(7));
-        String authorization = tokenProvider.getUserEmailByToken(httpServletRequest.getHeader("Authorization").substring(7));
-        Optional<Member> optionalMember = memberRepository.findByEmail(authorization);
-        if (optionalMember.isEmpty()) {
-            throw new IllegalStateException("회원이 존재하지 않습니다");
-        }
-        Member member = optionalMember.get();
+    public Member detailMember(MemberDetailRequestDto memberDetailRequestDto, Member loginMember, HttpServletResponse httpServletResponse) {
+        // JwtFilter 에서 인증된 회원을 수정하기 위해 영속 상태로 조회
+        Member member = memberRepository.findById(loginMember.getId()).orElseThrow(
+                () -> new IllegalStateException("회원이 존재하지 않습니다"));
         Member updateMember = member.detail(memberDetailRequestDto);
+        userDetailsService.evictPrincipal(member.getEmail());
         TokenDto tokenDto = tokenProvider.generateTokenDto(updateMember);
         httpServletResponse.addHeader("Authorization", "Bearer " + tokenDto.getAccessToken());
         httpServletResponse.addHeader("RefreshToken", tokenDto.getRefreshToken());
@@ -97,36 +92,24 @@ public class MemberService {
     }
 
     @Transactional
-    public Member update(MemberUpdateRequest memberUpdateRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new IllegalStateException("잘못된 접근입니다.");
-        }
-        tokenProvider.validateToken(httpServletRequest.getHeader("Authorization").substring(7));
-        String authorization = tokenProvider.getUserEmailByToken(httpServletRequest.getHeader("Authorization").substring(7));
-        Optional<Member> optionalMember = memberRepository.findByEmail(authorization);
-        if (optionalMember.isEmpty()) {
-            throw new IllegalStateException("회원이 존재하지 않습니다");
-        }
-        Member member = optionalMember.get();
+    public Member update(MemberUpdateRequest memberUpdateRequest, Member loginMember, HttpServletResponse httpServletResponse) {
+        // JwtFilter 에서 인증된 회원을 수정하기 위해 영속 상태로 조회
+        Member member = memberRepository.findById(loginMember.getId()).orElseThrow(
+                () -> new IllegalStateException("회원이 존재하지 않습니다"));
+        // 수정 전 email 로 발급된 토큰이 캐시된 인증 정보로 인증되지 않도록 수정 전, 후 email 모두 삭제
+        String oldEmail = member.getEmail();
         Member updateMember = member.update(memberUpdateRequest);
+        userDetailsService.evictPrincipal(oldEmail);
+        userDetailsService.evictPrincipal(updateMember.getEmail());
         TokenDto tokenDto = tokenProvider.generateTokenDto(updateMember);
         httpServletResponse.addHeader("Authorization", "Bearer " + tokenDto.getAccessToken());
         httpServletResponse.addHeader("RefreshToken", tokenDto.getRefreshToken());
         return updateMember;
     }
 
-    public void logout(HttpServletRequest httpServletRequest) {
-        if (httpServletRequest.getHeader("Authorization") == null || httpServletRequest.getHeader("Authorization").isEmpty()) {
-            throw new IllegalStateException("잘못된 접근입니다.");
-        }
-        tokenProvider.validateToken(httpServletRequest.getHeader("Authorization").substring(7));
-        String authorization = tokenProvider.getUserEmailByToken(httpServletRequest.getHeader("Authorization").substring(7));
-        Optional<Member> optionalMember = memberRepository.findByEmail(authorization);
-        if (optionalMember.isEmpty()) {
-            throw new IllegalStateException("회원이 존재하지 않습니다");
-        }
-        Member member = optionalMember.get();
+    public void logout(Member member) {
         RefreshToken refreshToken = refreshTokenRepository.findByMember(member).get();
         refreshTokenRepository.delete(refreshToken);
+        userDetailsService.evictPrincipal(member.getEmail());
     }
 }
\ No newline at end of file
@@ -9,7 +9,9 @@ import sideproject.petmeeting.common.Response;
 import sideproject.petmeeting.common.ResponseResource;
 import sideproject.petmeeting.common.StatusEnum;
 import sideproject.petmeeting.member.controller.MemberController;
+import sideproject.petmeeting.myPage.service.MyPageDashboardService;
 import sideproject.petmeeting.myPage.service.MyPageService;
+import sideproject.petmeeting.myPage.dto.MyDashboardDto;
 import sideproject.petmeeting.myPage.dto.MyHeartPostDto;
 import sideproject.petmeeting.myPage.dto.MyMeetingDto;
 import sideproject.petmeeting.myPage.dto.MyPostDto;
@@ -19,6 +21,7 @@ import sideproject.petmeeting.security.UserDetailsImpl;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @RequiredArgsConstructor
 @RestController
@@ -26,6 +29,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 public class MyPageController {
 
     private final MyPageService myPageService;
+    private final MyPageDashboardService myPageDashboardService;
 
     /**
      * 마이페이지 - 내 정보 조회
@@ -46,6 +50,24 @@ public class MyPageController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * 마이페이지 대시보드 조회 - 내 정보와 게시글, 모임, '좋아요'한 게시글 첫 페이지를 한 번에 조회
+     * @param userDetails : 사용자
+     * @return : 대시보드 조회 성공 응답
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<Object> getMyDashboard(@AuthenticationPrincipal UserDetailsImpl userDetails){
+
+        MyDashboardDto myDashboardDto = myPageDashboardService.getDashboard(userDetails.getMember());
+
+        ResponseResource responseResource = new ResponseResource(myDashboardDto);
+        responseResource.add(linkTo(MyPageController.class).slash("dashboard").withSelfRel());
+
+        Response response = new Response(StatusEnum.OK, "마이페이지 대시보드 조회 성공", responseResource);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * 타유저 프로필 조회
      * @param memberId : 조회할 회원 Id
@@ -68,15 +90,20 @@ public class MyPageController {
     /**
      * 마이페이지 - 내가 작성한 게시글 조회
      * @param userDetails : 사용자
-     * @return : 내가 작성한 게시글 조회 성공 응답
+     * @param page : 페이지 번호(기본 0)
+     * @return : 내가 작성한 게시글 조회 성공 응답, 다음 페이지가 있으면 next 링크 추가
      */
     @GetMapping("/post")
-    public ResponseEntity<Object> getMyPost(@AuthenticationPrincipal UserDetailsImpl userDetails){
+    public ResponseEntity<Object> getMyPost(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                            @RequestParam(defaultValue = "0") int page){
 
-        MyPostDto myPostDto = myPageService.getMyPost(userDetails.getMember());
+        MyPostDto myPostDto = myPageService.getMyPost(userDetails.getMember(), page);
 
         ResponseResource responseResource = new ResponseResource(myPostDto);
         responseResource.add(linkTo(MyPageController.class).slash("post").withSelfRel());
+        if (myPostDto.isHasNext()) {
+            responseResource.add(linkTo(methodOn(MyPageController.class).getMyPost(null, Math.max(page, 0) + 1)).withRel("next"));
+        }
 
         Response response = new Response(StatusEnum.OK, "내가 작성한 게시글 조회 성공", responseResource);
 
@@ -87,15 +114,20 @@ public class MyPageController {
     /**
      * 마이페이지 - 내가 만든 모임 조회
      * @param userDetails : 사용자
-     * @return : 내가 만든 모임 조회 성공 응답
+     * @param page : 페이지 번호(기본 0)
+     * @return : 내가 만든 모임 조회 성공 응답, 다음 페이지가 있으면 next 링크 추가
      */
     @GetMapping("/meeting")
-    public ResponseEntity<Object> getMyMeeting(@AuthenticationPrincipal UserDetailsImpl userDetails){
+    public ResponseEntity<Object> getMyMeeting(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                            @RequestParam(defaultValue = "0") int page){
 
-        MyMeetingDto myMeetingDto = myPageService.getMyMeeting(userDetails.getMember());
+        MyMeetingDto myMeetingDto = myPageService.getMyMeeting(userDetails.getMember(), page);
 
         ResponseResource responseResource = new ResponseResource(myMeetingDto);
         responseResource.add(linkTo(MyPageController.class).slash("meeting").withSelfRel());
+        if (myMeetingDto.isHasNext()) {
+            responseResource.add(linkTo(methodOn(MyPageController.class).getMyMeeting(null, Math.max(page, 0) + 1)).withRel("next"));
+        }
 
         Response response = new Response(StatusEnum.OK, "내가 만든 모임 조회 성공", responseResource);
 
@@ -106,15 +138,20 @@ public class MyPageController {
     /**
      * 마이페이지 - 내가 '좋아요'한 게시글 조회
      * @param userDetails : 사용자
-     * @return : 내가 '좋아요'한 게시글 조회 성공 응답
+     * @param page : 페이지 번호(기본 0)
+     * @return : 내가 '좋아요'한 게시글 조회 성공 응답, 다음 페이지가 있으면 next 링크 추가
      */
     @GetMapping("/heart")
-    public ResponseEntity<Object> getMyHeartPost(@AuthenticationPrincipal UserDetailsImpl userDetails){
+    public ResponseEntity<Object> getMyHeartPost(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                            @RequestParam(defaultValue = "0") int page){
 
-        MyHeartPostDto myHeartPostDto = myPageService.getMyHeartPost(userDetails.getMember());
+        MyHeartPostDto myHeartPostDto = myPageService.getMyHeartPost(userDetails.getMember(), page);
 
         ResponseResource responseResource = new ResponseResource(myHeartPostDto);
         responseResource.add(linkTo(MyPageController.class).slash("heart").withSelfRel());
+        if (myHeartPostDto.isHasNext()) {
+            responseResource.add(linkTo(methodOn(MyPageController.class).getMyHeartPost(null, Math.max(page, 0) + 1)).withRel("next"));
+        }
 
         Response response = new Response(StatusEnum.OK, "내가 '좋아요'한 게시글 조회 성공", responseResource);
 
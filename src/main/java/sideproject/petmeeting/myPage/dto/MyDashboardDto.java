@@ -0,0 +1,19 @@
+package sideproject.petmeeting.myPage.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MyDashboardDto {
+    private ProfileDto profile;
+    private MyPostDto myPost;
+    private MyMeetingDto myMeeting;
+    private MyHeartPostDto myHeartPost;
+    // 시간 초과 또는 오류로 응답에서 빠진 섹션 이름
+    private List<String> failedSections;
+}
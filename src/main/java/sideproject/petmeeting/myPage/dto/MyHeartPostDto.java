@@ -10,4 +10,5 @@ import java.util.List;
 @Builder
 public class MyHeartPostDto {
     List<PostResponseDto> myHeartPostList;
+    boolean hasNext;
 }
@@ -10,4 +10,5 @@ import java.util.List;
 @Builder
 public class MyMeetingDto {
     List<MeetingResponseDto> myMeetingList;
+    boolean hasNext;
 }
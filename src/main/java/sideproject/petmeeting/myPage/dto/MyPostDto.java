@@ -10,4 +10,5 @@ import java.util.List;
 @Builder
 public class MyPostDto {
     List<PostResponseDto> myPostList;
+    boolean hasNext;
 }
@@ -16,5 +16,7 @@ public class ProfileDto {
     private String email;
     private String location;
     private String image;
+    private Integer followerCount;
+    private Integer followingCount;
     private List<Pet> pet;
 }
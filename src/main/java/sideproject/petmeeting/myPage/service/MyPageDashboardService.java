@@ -0,0 +1,90 @@
+package sideproject.petmeeting.myPage.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import sideproject.petmeeting.config.AsyncConfig;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.myPage.dto.MyDashboardDto;
+import sideproject.petmeeting.myPage.dto.MyHeartPostDto;
+import sideproject.petmeeting.myPage.dto.MyMeetingDto;
+import sideproject.petmeeting.myPage.dto.MyPostDto;
+import sideproject.petmeeting.myPage.dto.ProfileDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 마이페이지 대시보드 - 내 정보, 내가 작성한 게시글, 내가 만든 모임, 내가 '좋아요'한 게시글을 병렬로 조회해 한 번에 응답
+ * 섹션 별로 시간 제한을 두고, 제한 시간 안에 끝나지 않거나 실패한 섹션은 비워두고 failedSections 에 기록
+ * orTimeout 은 응답만 기다리지 않으므로 섹션 쿼리는 MyPageService 의 트랜잭션 timeout(JDBC 쿼리 timeout)으로 중단
+ * 스레드 풀이 가득 차 실행하지 못한 섹션도 실패로 기록(요청 스레드에서 직접 실행하지 않음)
+ */
+@Slf4j
+@Service
+public class MyPageDashboardService {
+    public static final String PROFILE = "profile";
+    public static final String MY_POST = "myPost";
+    public static final String MY_MEETING = "myMeeting";
+    public static final String MY_HEART_POST = "myHeartPost";
+
+    private final MyPageService myPageService;
+    private final Executor executor;
+    private final long sectionTimeoutMillis;
+
+    public MyPageDashboardService(MyPageService myPageService,
+                                  @Qualifier(AsyncConfig.MY_PAGE_EXECUTOR) Executor executor,
+                                  @Value("${mypage.dashboard.section-timeout:2000}") long sectionTimeoutMillis) {
+        this.myPageService = myPageService;
+        this.executor = executor;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+    }
+
+    /**
+     * 마이페이지 대시보드 조회 - 각 섹션의 첫 페이지를 동시에 조회
+     * @param member : 사용자
+     * @return : 섹션 별 조회 결과, 실패한 섹션 이름 목록
+     */
+    public MyDashboardDto getDashboard(Member member) {
+        CompletableFuture<ProfileDto> profile = section(() -> myPageService.getProfile(member));
+        CompletableFuture<MyPostDto> myPost = section(() -> myPageService.getMyPost(member, 0));
+        CompletableFuture<MyMeetingDto> myMeeting = section(() -> myPageService.getMyMeeting(member, 0));
+        CompletableFuture<MyHeartPostDto> myHeartPost = section(() -> myPageService.getMyHeartPost(member, 0));
+
+        List<String> failedSections = new ArrayList<>();
+        return MyDashboardDto.builder()
+                .profile(join(PROFILE, profile, failedSections))
+                .myPost(join(MY_POST, myPost, failedSections))
+                .myMeeting(join(MY_MEETING, myMeeting, failedSections))
+                .myHeartPost(join(MY_HEART_POST, myHeartPost, failedSections))
+                .failedSections(failedSections.isEmpty() ? null : failedSections)
+                .build();
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor)
+                    .orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T join(String sectionName, CompletableFuture<T> future, List<String> failedSections) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("마이페이지 대시보드 {} 조회 실패 : {}", sectionName, e.getCause() == null ? e : e.getCause());
+            failedSections.add(sectionName);
+            return null;
+        }
+    }
+}
@@ -2,11 +2,12 @@ package sideproject.petmeeting.myPage.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.common.exception.ErrorCode;
-import sideproject.petmeeting.meeting.domain.Meeting;
 import sideproject.petmeeting.meeting.dto.MeetingResponseDto;
 import sideproject.petmeeting.meeting.repository.MeetingRepository;
 import sideproject.petmeeting.member.domain.Member;
@@ -17,13 +18,10 @@ import sideproject.petmeeting.myPage.dto.MyPostDto;
 import sideproject.petmeeting.myPage.dto.ProfileDto;
 import sideproject.petmeeting.pet.domain.Pet;
 import sideproject.petmeeting.pet.repository.PetRepository;
-import sideproject.petmeeting.post.domain.HeartPost;
-import sideproject.petmeeting.post.domain.Post;
 import sideproject.petmeeting.post.dto.PostResponseDto;
 import sideproject.petmeeting.post.repository.HeartPostRepository;
 import sideproject.petmeeting.post.repository.PostRepository;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -36,12 +34,20 @@ public class MyPageService {
     private final MemberRepository memberRepository;
     private final PetRepository petRepository;
 
+    private static final int PAGE_SIZE = 20;
+
     /**
      * 마이페이지 - 내 정보 조회
      * @param member : 사용자
      * @return : 사용자 정보
      */
+    @Transactional(readOnly = true, timeoutString = "${mypage.query-timeout:2}")
     public ProfileDto getProfile(Member member) {
+        // 인증 정보의 회원은 캐시된 값이므로 팔로워/팔로잉 수는 DB 에서 다시 조회
+        Member savedMember = memberRepository.findById(member.getId()).orElseThrow(
+                () -> new BusinessException("회원 정보가 존재하지 않습니다.", ErrorCode.MEMBER_NOT_EXIST)
+        );
+
         List<Pet> petList = petRepository.findPetFetchJoinMemberId(member.getId());
         if (null == petList) {
             throw new BusinessException("반려동물 정보가 존재하지 않습니다.", ErrorCode.PET_NOT_EXIST);
@@ -53,6 +59,8 @@ public class MyPageService {
                 .email(member.getEmail())
                 .location(member.getLocation())
                 .image(member.getImage())
+                .followerCount(savedMember.getFollowerCount())
+                .followingCount(savedMember.getFollowingCount())
                 .pet(petList)
                 .build();
     }
@@ -77,6 +85,8 @@ public class MyPageService {
                 .nickname(member.getNickname())
                 .location(member.getLocation())
                 .image(member.getImage())
+                .followerCount(member.getFollowerCount())
+                .followingCount(member.getFollowingCount())
                 .pet(petList)
                 .build();
     }
@@ -85,37 +95,16 @@ public class MyPageService {
     /**
      * 마이페이지 - 내가 작성한 게시글 조회
      * @param member : 사용자
+     * @param page : 페이지 번호
      * @return : 사용자의 작성한 게시글 리스트
      */
-    @Transactional
-    public MyPostDto getMyPost(Member member) {
-        List<Post> myPostList = postRepository.findAllByMemberId(member.getId());
-        if (null == myPostList) {
-            throw new BusinessException("내가 작성한 게시글이 없습니다.", ErrorCode.MY_POST_NOT_EXIST);
-        }
-
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-        for (Post post : myPostList) {
-            postResponseDtoList.add(
-                    PostResponseDto.builder()
-                            .id(post.getId())
-                            .category(post.getCategory())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .imageUrl(post.getImageUrl())
-                            .numHeart(post.getNumHeart())
-                            .authorId(post.getMember().getId())
-                            .authorNickname(post.getMember().getNickname())
-                            .authorImageUrl(post.getMember().getImage())
-                            .createdAt(post.getCreatedAt())
-                            .modifiedAt(post.getModifiedAt())
-                            .build()
-            );
-        }
-
+    @Transactional(readOnly = true, timeoutString = "${mypage.query-timeout:2}")
+    public MyPostDto getMyPost(Member member, int page) {
+        Slice<PostResponseDto> myPostList = postRepository.findMyPostList(member.getId(), pageRequest(page));
 
         return MyPostDto.builder()
-                .myPostList(postResponseDtoList)
+                .myPostList(myPostList.getContent())
+                .hasNext(myPostList.hasNext())
                 .build();
     }
 
@@ -123,43 +112,16 @@ public class MyPageService {
     /**
      * 마이페이지 - 내가 만든 모임 조회
      * @param member : 사용자
+     * @param page : 페이지 번호
      * @return : 사용자가 만든 모임 리스트
      */
-    @Transactional
-    public MyMeetingDto getMyMeeting(Member member) {
-        List<Meeting> myMeetingList = meetingRepository.findAllByMemberId(member.getId());
-        if (null == myMeetingList) {
-            throw new BusinessException("내가 만든 모임이 없습니다.", ErrorCode.MY_MEETING_NOT_EXIST);
-        }
-
-
-        List<MeetingResponseDto> meetingResponseDtoList = new ArrayList<>();
-        for (Meeting meeting : myMeetingList) {
-            meetingResponseDtoList.add(
-                    MeetingResponseDto.builder()
-                            .id(meeting.getId())
-                            .title(meeting.getTitle())
-                            .content(meeting.getContent())
-                            .imageUrl(meeting.getImageUrl())
-                            .address(meeting.getAddress())
-                            .coordinateX(meeting.getCoordinateX())
-                            .coordinateY(meeting.getCoordinateY())
-                            .placeName(meeting.getPlaceName())
-                            .time(meeting.getTime())
-                            .recruitNum(meeting.getRecruitNum())
-                            .species(meeting.getSpecies())
-                            .authorId(meeting.getMember().getId())
-                            .authorNickname(meeting.getMember().getNickname())
-                            .authorImageUrl(meeting.getMember().getImage())
-                            .createdAt(meeting.getCreatedAt())
-                            .modifiedAt(meeting.getModifiedAt())
-                            .build()
-            );
-        }
-
+    @Transactional(readOnly = true, timeoutString = "${mypage.query-timeout:2}")
+    public MyMeetingDto getMyMeeting(Member member, int page) {
+        Slice<MeetingResponseDto> myMeetingList = meetingRepository.findMyMeetingList(member.getId(), pageRequest(page));
 
         return MyMeetingDto.builder()
-                .myMeetingList(meetingResponseDtoList)
+                .myMeetingList(myMeetingList.getContent())
+                .hasNext(myMeetingList.hasNext())
                 .build();
     }
 
@@ -167,37 +129,21 @@ public class MyPageService {
     /**
      * 마이페이지 - 내가 '좋아요'한 게시글 조회
      * @param member : 사용자
+     * @param page : 페이지 번호
      * @return : 사용자가 '좋아요'한 게시글 리스트
      */
-    @Transactional
-    public MyHeartPostDto getMyHeartPost(Member member) {
-        List<HeartPost> myHeartPostList = heartPostRepository.findAllByMemberId(member.getId());
-        if (null == myHeartPostList) {
-            throw new BusinessException("내가 '좋아요'한 게시글이 없습니다.", ErrorCode.MY_HEART_POST_NOT_EXIST);
-        }
-
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-        for (HeartPost heartPost : myHeartPostList) {
-            postResponseDtoList.add(
-                    PostResponseDto.builder()
-                            .id(heartPost.getId())
-                            .category(heartPost.getPost().getCategory())
-                            .title(heartPost.getPost().getTitle())
-                            .content(heartPost.getPost().getContent())
-                            .imageUrl(heartPost.getPost().getImageUrl())
-                            .numHeart(heartPost.getPost().getNumHeart())
-                            .authorId(heartPost.getMember().getId())
-                            .authorNickname(heartPost.getMember().getNickname())
-                            .authorImageUrl(heartPost.getMember().getImage())
-                            .createdAt(heartPost.getPost().getCreatedAt())
-                            .modifiedAt(heartPost.getPost().getModifiedAt())
-                            .build()
-            );
-        }
+    @Transactional(readOnly = true, timeoutString = "${mypage.query-timeout:2}")
+    public MyHeartPostDto getMyHeartPost(Member member, int page) {
+        Slice<PostResponseDto> myHeartPostList = heartPostRepository.findMyHeartPostList(member.getId(), pageRequest(page));
 
         return MyHeartPostDto.builder()
-                .myHeartPostList(postResponseDtoList)
+                .myHeartPostList(myHeartPostList.getContent())
+                .hasNext(myHeartPostList.hasNext())
                 .build();
     }
 
+    private PageRequest pageRequest(int page) {
+        return PageRequest.of(Math.max(page, 0), PAGE_SIZE);
+    }
+
 }
@@ -2,7 +2,9 @@ package sideproject.petmeeting.pet.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import sideproject.petmeeting.common.S3Uploader;
 import sideproject.petmeeting.common.exception.BusinessException;
@@ -21,12 +23,23 @@ public class PetService {
 
     private final PetRepository petRepository;
     private final S3Uploader s3Uploader;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 실행, 저장은 업로드가 끝난 뒤 별도 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PetResponseDto createPet(PetRequestDto petRequestDto, MultipartFile image, Member member) throws IOException {
         String imageUrl = s3Uploader.upload(image, "pet/image");
 
+        try {
+            return transactionTemplate.execute(status -> savePet(petRequestDto, imageUrl, member));
+        } catch (RuntimeException e) {
+            s3Uploader.deleteUnusedImage(imageUrl, "pet/image");
+            throw e;
+        }
+    }
+
+    private PetResponseDto savePet(PetRequestDto petRequestDto, String imageUrl, Member member) {
         Pet pet = Pet.builder()
                 .name(petRequestDto.getName())
                 .age(petRequestDto.getAge())
@@ -50,8 +63,22 @@ public class PetService {
         return getPetResponseDto(pet);
     }
 
-    @Transactional
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드, 수정은 별도 트랜잭션에서 실행하고 이전 이미지는 커밋 후 삭제
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PetResponseDto updatePet(Long petId, PetRequestDto petRequestDto, MultipartFile image, Member member) throws IOException {
+        String newImageUrl = image == null ? null : s3Uploader.upload(image, "pet/image");
+
+        try {
+            return transactionTemplate.execute(status -> modifyPet(petId, petRequestDto, newImageUrl, member));
+        } catch (RuntimeException e) {
+            if (newImageUrl != null) {
+                s3Uploader.deleteUnusedImage(newImageUrl, "pet/image");
+            }
+            throw e;
+        }
+    }
+
+    private PetResponseDto modifyPet(Long petId, PetRequestDto petRequestDto, String newImageUrl, Member member) {
         Pet pet = petRepository.findById(petId).orElseThrow(
                 () -> new BusinessException("존재하지 않는 반려동물 id 입니다.", ErrorCode.PET_NOT_EXIST)
         );
@@ -62,9 +89,9 @@ public class PetService {
 
         String imageUrl = pet.getImageUrl();
 
-        if (image != null) {
-            s3Uploader.deleteImage(imageUrl, "pet/image");
-            imageUrl = s3Uploader.upload(image, "pet/image");
+        if (newImageUrl != null) {
+            s3Uploader.deleteImageAfterCommit(imageUrl, "pet/image");
+            imageUrl = newImageUrl;
         }
 
         pet.update(petRequestDto, imageUrl);
@@ -71,6 +71,26 @@ public class PostController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * 게시글 피드 조회(커서 방식)
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 생략
+     * @return :
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<Object> getPostFeed(@RequestParam(value = "cursor", required = false) String cursor) {
+        PostPageResponseDto postPageResponseDto = postService.getPostFeed(cursor);
+
+        ResponseResource responseResource = new ResponseResource(postPageResponseDto);
+        responseResource.add(linkTo(methodOn(PostController.class).getPostFeed(cursor)).withSelfRel());
+        if (postPageResponseDto.getNextCursor() != null) {
+            responseResource.add(linkTo(methodOn(PostController.class).getPostFeed(postPageResponseDto.getNextCursor())).withRel("next"));
+        }
+
+        Response response = new Response(StatusEnum.OK, "게시글 조회 성공", responseResource);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * 게시글 단건 조회
      * @param postId : 조회할 게시글 id
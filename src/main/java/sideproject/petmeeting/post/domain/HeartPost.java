@@ -14,6 +14,7 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_heart_post_post_member", columnNames = {"post_id", "member_id"}))
 public class HeartPost {
 
     @Id
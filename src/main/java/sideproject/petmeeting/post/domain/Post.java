@@ -10,6 +10,7 @@ import sideproject.petmeeting.chat.domain.ChatRoom;
 import sideproject.petmeeting.common.Timestamped;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.post.dto.PostRequestDto;
+import sideproject.petmeeting.post.search.PostSearchIndexListener;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
@@ -26,6 +27,12 @@ import static javax.persistence.GenerationType.IDENTITY;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(PostSearchIndexListener.class)
+@Table(indexes = {
+        @Index(name = "idx_post_modified_at_id", columnList = "modified_at, id"),
+        // 타임라인 조회(작성자 별 최신 게시글)
+        @Index(name = "idx_post_member_id_id", columnList = "member_id, id")
+})
 public class Post extends Timestamped {
 
     @Id
@@ -61,6 +68,12 @@ public class Post extends Timestamped {
     @ColumnDefault("0")
     private Integer viewCnt;
 
+    // 댓글 수(댓글 작성/삭제 시 함께 증감, 목록 조회 시 COUNT 쿼리 없이 사용)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int commentCount = 0;
+
 
     /**
      * 게시글 수정
@@ -74,17 +87,7 @@ public class Post extends Timestamped {
         this.imageUrl =imageUrl;
     }
 
-    /**
-     * 좋아요 합계 저장
-     * @param numHeart
-     */
-    public void addCountHeart(Integer numHeart) {
-        this.numHeart = numHeart;
-    }
 
-    public void viewCnt() {
-        this.viewCnt++;
-    }
 
 
 
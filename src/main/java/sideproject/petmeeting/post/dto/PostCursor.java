@@ -0,0 +1,40 @@
+package sideproject.petmeeting.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서 - 마지막으로 조회한 게시글의 (modifiedAt, id)
+ * 클라이언트에는 Base64 로 인코딩 된 문자열로만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime modifiedAt;
+    private Long id;
+
+    public String encode() {
+        String raw = modifiedAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("올바르지 않은 커서 값입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package sideproject.petmeeting.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +8,7 @@ import java.util.List;
 
 @Builder
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostPageResponseDto {
     List<PostResponseDto> postList;
     private Integer totalPage;
@@ -15,4 +17,5 @@ public class PostPageResponseDto {
     private boolean isFirstPage;
     private boolean hasNextPage;
     private boolean hasPreviousPage;
+    private String nextCursor;
 }
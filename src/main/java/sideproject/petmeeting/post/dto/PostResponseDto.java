@@ -9,7 +9,7 @@ import sideproject.petmeeting.post.domain.Category;
 
 import java.time.LocalDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,6 +22,7 @@ public class PostResponseDto {
     @ColumnDefault("0")
     private Integer numHeart;
     private Integer viewCnt;
+    private Integer commentCount;
     private Long authorId;
     private String authorNickname;
     private String authorLocation;
@@ -1,10 +1,15 @@
 package sideproject.petmeeting.post.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.post.domain.HeartPost;
 import sideproject.petmeeting.post.domain.Post;
+import sideproject.petmeeting.post.dto.PostResponseDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,10 +19,20 @@ public interface HeartPostRepository extends JpaRepository<HeartPost, Long> {
     // 좋아요 여부 확인
     Optional<HeartPost> findByPostAndMember(@Param("post")Post post, @Param("member") Member member);
 
-    // Heart Count 구하기
-    Integer countByPostId(@Param("postId")Long PostId);
+    // 좋아요 취소(삭제된 row 수로 좋아요 여부 확인)
+    @Modifying
+    @Query("DELETE FROM HeartPost h WHERE h.post.id = :postId AND h.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 
-    // 마이페이지 '좋아요'한 게시글 조회
-    List<HeartPost> findAllByMemberId(Long id);
+    // 마이페이지 '좋아요'한 게시글 조회(게시글, 작성자 컬럼까지 DTO 로 한 번에 조회, count 쿼리 없음)
+    @Query("SELECT new sideproject.petmeeting.post.dto.PostResponseDto(p.id, p.category, p.title, p.content, p.imageUrl, " +
+            "p.numHeart, p.viewCnt, p.commentCount, m.id, m.nickname, m.location, m.image, p.createdAt, p.modifiedAt) " +
+            "FROM HeartPost h JOIN h.post p JOIN p.member m WHERE h.member.id = :memberId ORDER BY h.id DESC")
+    Slice<PostResponseDto> findMyHeartPostList(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 중복 좋아요 id 조회 - 같은 (post, member) 중 가장 먼저 저장된 좋아요를 제외한 나머지
+    @Query("SELECT h.id FROM HeartPost h WHERE EXISTS (SELECT h2.id FROM HeartPost h2 " +
+            "WHERE h2.post = h.post AND h2.member = h.member AND h2.id < h.id)")
+    List<Long> findDuplicateIds();
 
 }
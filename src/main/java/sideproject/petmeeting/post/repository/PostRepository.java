@@ -2,13 +2,20 @@ package sideproject.petmeeting.post.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.post.domain.Category;
 import sideproject.petmeeting.post.domain.Post;
+import sideproject.petmeeting.post.dto.PostResponseDto;
+import sideproject.petmeeting.post.search.PostSearchDocument;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,19 +25,84 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 게시글 전체 조회(수정된 시간으로 내림차순, 페이지 처리)
     Page<Post> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    // 게시글 피드 첫 페이지 조회(커서 방식, count 쿼리 없음)
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.member ORDER BY p.modifiedAt DESC, p.id DESC")
+    List<Post> findFeedFirstPage(Pageable pageable);
+
+    // 게시글 피드 다음 페이지 조회 - (modifiedAt, id) 커서 이후의 게시글
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.member " +
+            "WHERE p.modifiedAt < :modifiedAt OR (p.modifiedAt = :modifiedAt AND p.id < :postId) " +
+            "ORDER BY p.modifiedAt DESC, p.id DESC")
+    List<Post> findFeedAfterCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("postId") Long postId, Pageable pageable);
+
     // 게시글 단건 조회
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.member WHERE p.id = :postId")
     Optional<Post> findPostFetchJoin(@Param("postId")Long postId);
 
-    // 마이페이지 '좋아요'한 게시글 조회
-    List<Post> findAllByMemberId(Long id);
+    // 게시글 조회수 증가(버퍼에 누적된 조회수 반영)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.viewCnt = COALESCE(p.viewCnt, 0) + :count WHERE p.id = :postId")
+    int increaseViewCnt(@Param("postId") Long postId, @Param("count") int count);
+
+    // 게시글 좋아요 수 증가
+    @Modifying
+    @Query("UPDATE Post p SET p.numHeart = COALESCE(p.numHeart, 0) + 1 WHERE p.id = :postId")
+    int increaseNumHeart(@Param("postId") Long postId);
+
+    // 게시글 좋아요 수 감소
+    @Modifying
+    @Query("UPDATE Post p SET p.numHeart = p.numHeart - 1 WHERE p.id = :postId AND p.numHeart > 0")
+    int decreaseNumHeart(@Param("postId") Long postId);
+
+    // 게시글 댓글 수 증가(수정된 row 수로 게시글 존재 여부 확인)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    // 게시글 댓글 수 감소
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    // 게시글 댓글 수 조회(댓글 목록 조회 시 게시글 존재 여부 확인)
+    @Query("SELECT p.commentCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findCommentCountById(@Param("postId") Long postId);
+
+    // 댓글 수 보정 - id 커서 이후의 게시글 id
+    @Query("SELECT p.id FROM Post p WHERE p.id > :postId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("postId") Long postId, Pageable pageable);
+
+    // 댓글 수 보정 - 댓글 테이블 기준으로 다시 계산
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id) WHERE p.id IN :postIds")
+    int syncCommentCount(@Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 수 보정 - 좋아요 테이블 기준으로 다시 계산
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.numHeart = (SELECT COUNT(h) FROM HeartPost h WHERE h.post.id = p.id) WHERE p.id IN :postIds")
+    int syncNumHeart(@Param("postIds") Collection<Long> postIds);
+
+    // 마이페이지 내가 작성한 게시글 조회(작성자 컬럼까지 DTO 로 한 번에 조회, count 쿼리 없음)
+    @Query("SELECT new sideproject.petmeeting.post.dto.PostResponseDto(p.id, p.category, p.title, p.content, p.imageUrl, " +
+            "p.numHeart, p.viewCnt, p.commentCount, m.id, m.nickname, m.location, m.image, p.createdAt, p.modifiedAt) " +
+            "FROM Post p JOIN p.member m WHERE m.id = :memberId ORDER BY p.id DESC")
+    Slice<PostResponseDto> findMyPostList(@Param("memberId") Long memberId, Pageable pageable);
 
     Optional<Post> findByTitle(String post);
 
-    // 게시글 검색(제목, 내용)
-    @Query(value = "SELECT p FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%",
-            countQuery = "SELECT count(p) FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
-    Page<Post> findByKeyword(@Param("keyword")String keyword, @Param("pageable")Pageable pageable);
+    // 게시글 검색 결과 조회(검색 색인에서 찾은 게시글 id 목록)
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.member WHERE p.id IN :postIds")
+    List<Post> findAllByIdFetchJoin(@Param("postIds") List<Long> postIds);
+
+    // 검색 색인 재생성 - id 커서 이후의 게시글을 색인에 필요한 컬럼만 조회(영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new sideproject.petmeeting.post.search.PostSearchDocument(p.id, p.title, p.content) " +
+            "FROM Post p WHERE p.id > :postId ORDER BY p.id ASC")
+    List<PostSearchDocument> findSearchDocuments(@Param("postId") Long postId, Pageable pageable);
+
+    // 타임라인 게시글 id 조회 - 작성자 목록의 게시글 중 id 커서 이전의 게시글(최신순)
+    @Query("SELECT p.id FROM Post p WHERE p.member.id IN :memberIds AND p.id < :postId ORDER BY p.id DESC")
+    List<Long> findTimelinePostIds(@Param("memberIds") Collection<Long> memberIds, @Param("postId") Long postId, Pageable pageable);
 
     // 카테고리 별 게시글 조회
     @Query(value = "SELECT p FROM Post p WHERE p.category = :findCategory",
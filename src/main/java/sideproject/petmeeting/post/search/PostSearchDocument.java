@@ -0,0 +1,15 @@
+package sideproject.petmeeting.post.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인 대상 게시글 - 색인에 필요한 컬럼(id, 제목, 내용)만 담음
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchDocument {
+    private Long id;
+    private String title;
+    private String content;
+}
@@ -0,0 +1,165 @@
+package sideproject.petmeeting.post.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 검색용 인메모리 역색인
+ * 제목, 내용을 음절 단위(1-gram, 2-gram)로 나누어 색인하므로 형태소 분석 없이 한글 부분 검색 가능
+ * 색인 갱신은 PostSearchIndexListener, 서버 시작 시 전체 재색인은 PostSearchIndexInitializer 에서 처리
+ */
+@Component
+public class PostSearchIndex {
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // term -> (postId -> 가중치 반영 출현 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    // postId -> 색인된 term 목록(수정, 삭제 시 기존 색인 제거용)
+    private final Map<Long, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 색인 추가, 이미 색인된 게시글이면 기존 색인을 교체
+     * @param document : 색인할 게시글
+     */
+    public synchronized void index(PostSearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, document.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, document.getContent(), CONTENT_WEIGHT);
+
+        if (terms.equals(documents.get(document.getId()))) {
+            return;
+        }
+
+        remove(document.getId());
+        terms.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(document.getId(), frequency));
+        documents.put(document.getId(), terms);
+    }
+
+    /**
+     * 게시글 색인 삭제
+     * @param postId : 색인에서 삭제할 게시글 id
+     */
+    public synchronized void remove(Long postId) {
+        Map<String, Integer> terms = documents.remove(postId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 색인 초기화
+     */
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    /**
+     * 키워드 검색 - 키워드의 모든 음절 조합을 포함하는 게시글을 점수순(동점 시 최신순)으로 반환
+     * @param keyword : 검색 키워드
+     * @return : 정렬된 게시글 id 목록
+     */
+    public List<Long> search(String keyword) {
+        Set<String> queryTerms = new HashSet<>();
+        for (String word : split(keyword)) {
+            if (word.length() == 1) {
+                queryTerms.add(word);
+            } else {
+                for (int i = 0; i < word.length() - 1; i++) {
+                    queryTerms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 출현 문서 수가 적은 term 부터 교집합을 구해 후보 수를 줄임
+        List<Map<Long, Integer>> postingList = new ArrayList<>();
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(Map::size));
+
+        int totalDocuments = Math.max(documents.size(), 1);
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long postId : postingList.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> posting : postingList) {
+                Integer frequency = posting.get(postId);
+                if (frequency == null) {
+                    score = -1;
+                    break;
+                }
+                score += frequency * Math.log(1 + (double) totalDocuments / posting.size());
+            }
+            if (score >= 0) {
+                scores.put(postId, score);
+            }
+        }
+
+        List<Long> result = new ArrayList<>(scores.keySet());
+        result.sort(Comparator.comparing((Long postId) -> scores.get(postId)).reversed()
+                .thenComparing(Comparator.reverseOrder()));
+        return result;
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        return documents.size();
+    }
+
+
+    private void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String word : split(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.merge(word.substring(i, i + 1), weight, Integer::sum);
+                if (i < word.length() - 1) {
+                    terms.merge(word.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private List<String> split(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        StringBuilder word = new StringBuilder();
+        for (char ch : text.toLowerCase().toCharArray()) {
+            if (Character.isLetterOrDigit(ch)) {
+                word.append(ch);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
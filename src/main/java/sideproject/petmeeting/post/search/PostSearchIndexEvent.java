@@ -0,0 +1,15 @@
+package sideproject.petmeeting.post.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 저장, 수정, 삭제 시 발행하는 색인 변경 이벤트 - 트랜잭션 커밋 후 색인에 반영
+ * document 가 null 이면 색인에서 삭제
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchIndexEvent {
+    private Long postId;
+    private PostSearchDocument document;
+}
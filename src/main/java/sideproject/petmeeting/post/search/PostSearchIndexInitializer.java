@@ -0,0 +1,45 @@
+package sideproject.petmeeting.post.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import sideproject.petmeeting.post.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * 서버 시작 시 전체 게시글로 검색 색인 재생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexInitializer {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    /**
+     * 검색 색인 재생성 - 게시글을 id 커서로 일정 개수씩 나누어 조회하여 색인
+     * 색인에 필요한 컬럼만 DTO 로 조회하므로 엔티티가 영속성 컨텍스트에 쌓이지 않고, count 쿼리도 실행하지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        postSearchIndex.clear();
+
+        long lastPostId = 0L;
+        List<PostSearchDocument> documents;
+        do {
+            documents = postRepository.findSearchDocuments(lastPostId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            documents.forEach(postSearchIndex::index);
+            if (!documents.isEmpty()) {
+                lastPostId = documents.get(documents.size() - 1).getId();
+            }
+        } while (documents.size() == REBUILD_BATCH_SIZE);
+
+        log.info("게시글 검색 색인 생성 완료 : {} 건", postSearchIndex.size());
+    }
+}
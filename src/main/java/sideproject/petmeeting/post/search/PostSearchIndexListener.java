@@ -0,0 +1,44 @@
+package sideproject.petmeeting.post.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sideproject.petmeeting.post.domain.Post;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 게시글 저장, 수정, 삭제 시 검색 색인 갱신
+ * 변경 시점의 제목, 내용을 이벤트로 발행하고 트랜잭션이 커밋된 후에만 색인에 반영(롤백된 변경은 색인에 남지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexListener {
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostSearchIndex postSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void index(Post post) {
+        eventPublisher.publishEvent(new PostSearchIndexEvent(post.getId(),
+                new PostSearchDocument(post.getId(), post.getTitle(), post.getContent())));
+    }
+
+    @PostRemove
+    public void remove(Post post) {
+        eventPublisher.publishEvent(new PostSearchIndexEvent(post.getId(), null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void apply(PostSearchIndexEvent event) {
+        if (event.getDocument() == null) {
+            postSearchIndex.remove(event.getPostId());
+        } else {
+            postSearchIndex.index(event.getDocument());
+        }
+    }
+}
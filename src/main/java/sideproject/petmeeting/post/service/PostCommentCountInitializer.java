@@ -0,0 +1,59 @@
+package sideproject.petmeeting.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.common.migration.DataMigrationRunner;
+import sideproject.petmeeting.post.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 수 보정(한 번만 실행)
+ * 댓글 수 컬럼 추가 전에 저장된 댓글은 0 으로 남아 있으므로 댓글 테이블 기준으로 다시 계산
+ * 이후에는 댓글 작성/삭제가 수를 함께 갱신하므로 DataMigrationRunner 로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountInitializer {
+    private static final String MIGRATION_NAME = "post-comment-count-backfill";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataMigrationRunner dataMigrationRunner;
+
+    /**
+     * 서버 시작 시 보정 기록이 없으면 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        dataMigrationRunner.runOnce(MIGRATION_NAME, this::backfill);
+    }
+
+    /**
+     * 댓글 수 보정 - 게시글을 id 커서로 일정 개수씩 나누어 다시 계산하고 배치 마다 트랜잭션 커밋
+     */
+    public void backfill() {
+        long lastPostId = 0L;
+        int updated = 0;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsAfter(lastPostId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = postIds;
+            Integer count = transactionTemplate.execute(status -> postRepository.syncCommentCount(batch));
+            updated += count == null ? 0 : count;
+            lastPostId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == BACKFILL_BATCH_SIZE);
+
+        log.info("게시글 댓글 수 보정 완료 : {} 건", updated);
+    }
+}
@@ -0,0 +1,66 @@
+package sideproject.petmeeting.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideproject.petmeeting.common.migration.DataMigrationRunner;
+import sideproject.petmeeting.post.repository.HeartPostRepository;
+import sideproject.petmeeting.post.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * 게시글 좋아요 데이터 보정(한 번만 실행)
+ * 유니크 제약(uk_heart_post_post_member) 추가 전에 저장된 중복 좋아요를 삭제하고, 좋아요 테이블 기준으로 좋아요 수를 다시 계산
+ * (유니크 제약이 없는 기존 DB 는 이 보정이 끝난 뒤 제약을 추가)
+ * 이후에는 좋아요/좋아요 취소가 수를 함께 갱신하므로 DataMigrationRunner 로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHeartCountInitializer {
+    private static final String MIGRATION_NAME = "post-heart-count-backfill";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final HeartPostRepository heartPostRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataMigrationRunner dataMigrationRunner;
+
+    /**
+     * 서버 시작 시 보정 기록이 없으면 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        dataMigrationRunner.runOnce(MIGRATION_NAME, this::backfill);
+    }
+
+    /**
+     * 중복 좋아요 삭제 후 게시글을 id 커서로 일정 개수씩 나누어 좋아요 수를 다시 계산, 배치 마다 트랜잭션 커밋
+     */
+    public void backfill() {
+        List<Long> duplicateIds = heartPostRepository.findDuplicateIds();
+        for (int from = 0; from < duplicateIds.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = duplicateIds.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, duplicateIds.size()));
+            transactionTemplate.executeWithoutResult(status -> heartPostRepository.deleteAllByIdInBatch(batch));
+        }
+
+        long lastPostId = 0L;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findIdsAfter(lastPostId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = postIds;
+            transactionTemplate.executeWithoutResult(status -> postRepository.syncNumHeart(batch));
+            lastPostId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == BACKFILL_BATCH_SIZE);
+
+        log.info("게시글 좋아요 데이터 보정 완료 : 중복 좋아요 {} 건 삭제", duplicateIds.size());
+    }
+}
@@ -1,13 +1,18 @@
 package sideproject.petmeeting.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import sideproject.petmeeting.common.RedisReadThroughCache;
 import sideproject.petmeeting.common.S3Uploader;
 import sideproject.petmeeting.common.exception.BusinessException;
 import sideproject.petmeeting.common.exception.ErrorCode;
@@ -15,23 +20,37 @@ import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.post.domain.Category;
 import sideproject.petmeeting.post.domain.HeartPost;
 import sideproject.petmeeting.post.domain.Post;
+import sideproject.petmeeting.post.dto.PostCursor;
 import sideproject.petmeeting.post.dto.PostPageResponseDto;
 import sideproject.petmeeting.post.dto.PostRequestDto;
 import sideproject.petmeeting.post.dto.PostResponseDto;
 import sideproject.petmeeting.post.repository.HeartPostRepository;
 import sideproject.petmeeting.post.repository.PostRepository;
+import sideproject.petmeeting.post.search.PostSearchIndex;
+import sideproject.petmeeting.timeline.service.TimelineWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class PostService {
+    private static final int FEED_SIZE = 15;
+    public static final String POST_CACHE_KEY = "post:detail:";
+
     private final PostRepository postRepository;
     private final HeartPostRepository heartPostRepository;
     private final S3Uploader s3Uploader;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final RedisReadThroughCache redisReadThroughCache;
+    private final TimelineWriter timelineWriter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글 작성
@@ -41,10 +60,20 @@ public class PostService {
      * @return : 응답 데이터 postResponseDto
      * @throws IOException : IOException 예외처리
      */
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 실행, 저장은 업로드가 끝난 뒤 별도 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostResponseDto createPost(PostRequestDto postRequestDto, MultipartFile image, Member member) throws IOException {
         String imageUrl = s3Uploader.upload(image, "post/image");
 
+        try {
+            return transactionTemplate.execute(status -> savePost(postRequestDto, imageUrl, member));
+        } catch (RuntimeException e) {
+            s3Uploader.deleteUnusedImage(imageUrl, "post/image");
+            throw e;
+        }
+    }
+
+    private PostResponseDto savePost(PostRequestDto postRequestDto, String imageUrl, Member member) {
         Post post = Post.builder()
                 .category(postRequestDto.getCategory())
                 .title(postRequestDto.getTitle())
@@ -53,6 +82,7 @@ public class PostService {
                 .member(member)
                 .build();
         postRepository.save(post);
+        timelineWriter.publish(member.getId(), post.getId());
 
         return getPostResponseDto(post);
     }
@@ -74,19 +104,74 @@ public class PostService {
     }
 
 
+    /**
+     * 게시글 피드 조회(커서 방식)
+     * 페이지 번호 대신 마지막으로 조회한 게시글의 커서를 기준으로 조회하여 count, offset 스캔 없이 조회
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 null
+     * @return : 커서 이후의 게시글, 다음 커서 정보
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponseDto getPostFeed(String cursor) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, FEED_SIZE + 1);
+
+        List<Post> postList;
+        if (cursor == null) {
+            postList = postRepository.findFeedFirstPage(pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            postList = postRepository.findFeedAfterCursor(postCursor.getModifiedAt(), postCursor.getId(), pageable);
+        }
+
+        boolean hasNextPage = postList.size() > FEED_SIZE;
+        if (hasNextPage) {
+            postList = postList.subList(0, FEED_SIZE);
+        }
+
+        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
+        for (Post post : postList) {
+            postResponseDtoList.add(getPostResponseDto(post));
+        }
+
+        String nextCursor = null;
+        if (hasNextPage) {
+            Post lastPost = postList.get(postList.size() - 1);
+            nextCursor = new PostCursor(lastPost.getModifiedAt(), lastPost.getId()).encode();
+        }
+
+        return PostPageResponseDto.builder()
+                .postList(postResponseDtoList)
+                .isFirstPage(cursor == null)
+                .hasNextPage(hasNextPage)
+                .hasPreviousPage(cursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+
     /**
      * 게시글 단건 조회
+     * 조회 결과는 Redis 에 캐시, 조회수는 PostViewCountBuffer 에 누적 후 주기적으로 반영
+     * 트랜잭션은 캐시에 없을 때만 RedisReadThroughCache 가 읽기 전용으로 시작
      * @param postId : 조회할 게시글 id
      * @return : 조회할 게시글
      */
-    @Transactional
     public PostResponseDto getPost(Long postId) {
-        Post post = postRepository.findPostFetchJoin(postId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST)
-        );
-
-        post.viewCnt();
-        return getPostResponseDto(post);
+        PostResponseDto postResponseDto = redisReadThroughCache.get(POST_CACHE_KEY + postId, PostResponseDto.class, () -> {
+            Post post = postRepository.findPostFetchJoin(postId).orElseThrow(
+                    () -> new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST)
+            );
+
+            // 캐시에는 DB 에 반영된 조회수만 저장
+            postViewCountBuffer.resetFlushedCount(postId);
+            return getPostResponseDto(post, post.getViewCnt());
+        });
+
+        postViewCountBuffer.increase(postId);
+        int cachedViewCnt = postResponseDto.getViewCnt() == null ? 0 : postResponseDto.getViewCnt();
+        return postResponseDto.toBuilder()
+                .viewCnt(cachedViewCnt + (int) postViewCountBuffer.getUncachedCount(postId))
+                .build();
     }
 
 
@@ -98,8 +183,22 @@ public class PostService {
      * @return : 수정 완료 게시글
      * @throws IOException : IOException 예외 처리
      */
-    @Transactional
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드, 수정은 별도 트랜잭션에서 실행하고 이전 이미지는 커밋 후 삭제
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostResponseDto updatePost(Long postId, PostRequestDto postRequestDto, MultipartFile image, Member member) throws IOException {
+        String newImageUrl = image == null ? null : s3Uploader.upload(image, "post/image");
+
+        try {
+            return transactionTemplate.execute(status -> modifyPost(postId, postRequestDto, newImageUrl, member));
+        } catch (RuntimeException e) {
+            if (newImageUrl != null) {
+                s3Uploader.deleteUnusedImage(newImageUrl, "post/image");
+            }
+            throw e;
+        }
+    }
+
+    private PostResponseDto modifyPost(Long postId, PostRequestDto postRequestDto, String newImageUrl, Member member) {
         Post post = postRepository.findById(postId).orElseThrow(
                 () -> new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST)
         );
@@ -110,13 +209,14 @@ public class PostService {
 
         String imageUrl = post.getImageUrl();
 
-        // 이미지가 수정된 경우만 이미지 삭제 후 업로드
-        if (image != null) {
-            s3Uploader.deleteImage(imageUrl, "post/image");
-            imageUrl = s3Uploader.upload(image, "post/image");
+        // 이미지가 수정된 경우만 이미지 교체
+        if (newImageUrl != null) {
+            s3Uploader.deleteImageAfterCommit(imageUrl, "post/image");
+            imageUrl = newImageUrl;
         }
 
         post.update(postRequestDto, imageUrl);
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
 
         return getPostResponseDto(post);
     }
@@ -145,33 +245,34 @@ public class PostService {
         }
 
         postRepository.deleteById(postId);
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
     }
 
     /**
      * 게시글 좋아요
+     * 좋아요 수는 UPDATE 한 번으로 증가시키고, 중복 좋아요는 (post_id, member_id) 유니크 제약으로 확인
      * @param postId : '좋아요' 할 게시글 id
      * @param member : 게시글에 '좋아요'를 한 사용자
      */
     @Transactional
     public void addPostHeart(Long postId, Member member) {
-        Post post = postRepository.findById(postId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST)
-        );
-
-        if (heartPostRepository.findByPostAndMember(post, member).isPresent()) {
-            throw new BusinessException("이미 '좋아요'한 게시글입니다.", ErrorCode.ALREADY_HEARTED);
+        if (postRepository.increaseNumHeart(postId) == 0) {
+            throw new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST);
         }
 
         HeartPost heartPost = HeartPost.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .member(member)
                 .build();
 
-        heartPostRepository.save(heartPost);
-
-        Integer countHeart = heartPostRepository.countByPostId(postId);
+        // 중복 좋아요인 경우 예외 발생으로 트랜잭션이 롤백되어 증가한 좋아요 수도 함께 취소
+        try {
+            heartPostRepository.saveAndFlush(heartPost);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("이미 '좋아요'한 게시글입니다.", ErrorCode.ALREADY_HEARTED);
+        }
 
-        post.addCountHeart(countHeart);
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
     }
 
 
@@ -182,33 +283,44 @@ public class PostService {
      */
     @Transactional
     public void deletePostHeart(Long postId, Member member) {
-        Post post = postRepository.findById(postId).orElseThrow(
-                () -> new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST)
-        );
-
-        Optional<HeartPost> heartOptional = heartPostRepository.findByPostAndMember(post, member);
-        if (heartOptional.isEmpty()) {
+        if (heartPostRepository.deleteByPostIdAndMemberId(postId, member.getId()) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new BusinessException("존재하지 않는 게시글 id 입니다.", ErrorCode.POST_NOT_EXIST);
+            }
             throw new BusinessException("'좋아요' 하지 않은 게시글입니다.", ErrorCode.HEART_NOT_FOUND);
         }
 
-        heartPostRepository.delete(heartOptional.get());
-
-        Integer countHeart = heartPostRepository.countByPostId(postId);
-
-        post.addCountHeart(countHeart);
+        postRepository.decreaseNumHeart(postId);
+        redisReadThroughCache.evict(POST_CACHE_KEY + postId);
     }
 
 
     /**
      * 게시글 검색
+     * 검색 색인에서 점수순으로 정렬된 게시글 id 를 찾은 뒤, 해당 페이지의 게시글만 조회
      * @param keyword: 검색 키워드
      * @return 검색 결과 응답
      */
     @Transactional(readOnly = true)
     public PostPageResponseDto searchPost(String keyword, int pageNum) {
-        Pageable pageable = PageRequest.of(pageNum, 15, Sort.by("modifiedAt").descending());
+        Pageable pageable = PageRequest.of(pageNum, 15);
+
+        List<Long> postIds;
+        List<Post> content;
+        boolean pruned;
+        do {
+            postIds = postSearchIndex.search(keyword);
 
-        Page<Post> postPage = postRepository.findByKeyword(keyword, pageable);
+            int fromIndex = (int) Math.min(pageable.getOffset(), postIds.size());
+            int toIndex = Math.min(fromIndex + pageable.getPageSize(), postIds.size());
+            List<Long> pagePostIds = postIds.subList(fromIndex, toIndex);
+
+            // 검색 점수순 유지, 색인에만 남아있는 게시글은 색인에서 지우고 해당 페이지를 다시 조회
+            content = findAllInOrder(pagePostIds);
+            pruned = pruneSearchIndex(pagePostIds, content);
+        } while (pruned);
+
+        Page<Post> postPage = new PageImpl<>(content, pageable, postIds.size());
 
         if(!postPage.hasContent()) {
             throw new BusinessException("검색 결과가 없습니다.", ErrorCode.KEYWORD_NOT_FOUND);
@@ -217,6 +329,38 @@ public class PostService {
         return getPostPageResponseDto(pageNum, postPage);
     }
 
+    /**
+     * DB 에 없는 게시글(색인 반영 전에 일괄 삭제된 게시글 등)을 검색 색인에서 삭제
+     * @param postIds : 조회한 게시글 id 목록
+     * @param posts : DB 에서 조회된 게시글
+     * @return : 색인에서 삭제한 게시글이 있으면 true
+     */
+    private boolean pruneSearchIndex(List<Long> postIds, List<Post> posts) {
+        if (posts.size() == postIds.size()) {
+            return false;
+        }
+
+        Set<Long> foundIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+        postIds.stream()
+                .filter(postId -> !foundIds.contains(postId))
+                .forEach(postSearchIndex::remove);
+        return true;
+    }
+
+    /**
+     * 게시글 id 목록 순서대로 조회(타임라인)
+     * @param postIds : 조회할 게시글 id 목록
+     * @return : 게시글 목록, 삭제된 게시글은 제외
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getPostList(List<Long> postIds) {
+        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
+        for (Post post : findAllInOrder(postIds)) {
+            postResponseDtoList.add(getPostResponseDto(post));
+        }
+        return postResponseDtoList;
+    }
+
     /**
      * 카테고리별 조회
      * @param category: 조회할 카테고리
@@ -241,12 +385,38 @@ public class PostService {
 
 
 
+    /**
+     * 게시글 id 목록 순서를 유지해 조회, 존재하지 않는 게시글은 제외
+     * @param postIds : 조회할 게시글 id 목록
+     * @return : 게시글 목록
+     */
+    private List<Post> findAllInOrder(List<Long> postIds) {
+        Map<Long, Post> postMap = postIds.isEmpty() ? Map.of() :
+                postRepository.findAllByIdFetchJoin(postIds).stream()
+                        .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Post> postList = new ArrayList<>();
+        for (Long postId : postIds) {
+            Post post = postMap.get(postId);
+            if (post != null) {
+                postList.add(post);
+            }
+        }
+        return postList;
+    }
+
+
     /**
      * post 데이터를 postResponseDto 로 build
      * @param post : post 데이터
      * @return : 응답 데이터 postResponseDto
      */
     private PostResponseDto getPostResponseDto(Post post) {
+        return getPostResponseDto(post, getViewCnt(post.getId(), post.getViewCnt()));
+    }
+
+
+    private PostResponseDto getPostResponseDto(Post post, Integer viewCnt) {
 
         return PostResponseDto.builder()
                 .id(post.getId())
@@ -255,7 +425,8 @@ public class PostService {
                 .content(post.getContent())
                 .imageUrl(post.getImageUrl())
                 .numHeart(post.getNumHeart())
-                .viewCnt(post.getViewCnt())
+                .viewCnt(viewCnt)
+                .commentCount(post.getCommentCount())
                 .authorId(post.getMember().getId())
                 .authorNickname(post.getMember().getNickname())
                 .authorLocation(post.getMember().getLocation())
@@ -266,6 +437,18 @@ public class PostService {
     }
 
 
+    /**
+     * DB 에 저장된 조회수 + 아직 반영되지 않은 조회수
+     * @param postId : 게시글 id
+     * @param storedViewCnt : DB 에 저장된 조회수
+     * @return : 현재 조회수
+     */
+    private Integer getViewCnt(Long postId, Integer storedViewCnt) {
+        int viewCnt = storedViewCnt == null ? 0 : storedViewCnt;
+        return viewCnt + (int) postViewCountBuffer.getPendingCount(postId);
+    }
+
+
     private PostPageResponseDto getPostPageResponseDto(int pageNum, Page<Post> postPage) {
         List<Post> content = postPage.getContent();
 
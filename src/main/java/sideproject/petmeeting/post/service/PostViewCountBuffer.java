@@ -0,0 +1,111 @@
+package sideproject.petmeeting.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideproject.petmeeting.common.RedisReadThroughCache;
+import sideproject.petmeeting.post.repository.PostRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 버퍼
+ * 조회 시마다 게시글 row 를 UPDATE 하지 않고 메모리에 누적한 뒤, 주기적으로 게시글별 증가분만 DB 에 반영
+ * 반영할 때마다 게시글 캐시를 지우지 않고, DB 에 반영된 조회수를 따로 더해 응답한 뒤 캐시 갱신 주기에 한 번만 캐시 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+    private final PostRepository postRepository;
+    private final RedisReadThroughCache redisReadThroughCache;
+
+    // postId -> DB 에 아직 반영되지 않은 조회수(반영하면 항목 삭제), 인기 게시글에 조회가 몰려도 경합이 적은 LongAdder 로 누적
+    private final Map<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+    // postId -> DB 에는 반영됐지만 캐시된 게시글에는 아직 반영되지 않은 조회수(캐시 삭제 시 항목 삭제)
+    private final Map<Long, Long> flushedViewCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가
+     * @param postId : 조회한 게시글 id
+     */
+    public void increase(Long postId) {
+        pendingViewCounts.computeIfAbsent(postId, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * DB 에 아직 반영되지 않은 조회수
+     * @param postId : 게시글 id
+     * @return : 반영 대기 중인 조회수
+     */
+    public long getPendingCount(Long postId) {
+        LongAdder pending = pendingViewCounts.get(postId);
+        return pending == null ? 0L : pending.sum();
+    }
+
+    /**
+     * 캐시된 게시글의 조회수에 더할 값 - 반영 대기 중인 조회수 + 캐시 이후 DB 에 반영된 조회수
+     * @param postId : 게시글 id
+     * @return : 캐시에 반영되지 않은 조회수
+     */
+    public long getUncachedCount(Long postId) {
+        return getPendingCount(postId) + flushedViewCounts.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 게시글을 DB 에서 다시 읽어 캐시할 때 호출 - 이후 DB 조회 결과에 포함될 조회수는 따로 더하지 않음
+     * @param postId : 게시글 id
+     */
+    public void resetFlushedCount(Long postId) {
+        flushedViewCounts.remove(postId);
+    }
+
+    /**
+     * 누적된 조회수를 DB 에 반영
+     * 게시글별 누적값을 map 에서 꺼낸 뒤 합산하므로 반영 중에 증가한 조회수는 새 누적값에 쌓여 다음 주기에 반영
+     */
+    @Scheduled(initialDelayString = "${post.view-count.flush-interval:3000}", fixedDelayString = "${post.view-count.flush-interval:3000}")
+    public void flush() {
+        for (Long postId : pendingViewCounts.keySet()) {
+            LongAdder pending = pendingViewCounts.remove(postId);
+            if (pending == null) {
+                continue;
+            }
+            long count = pending.sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+
+            try {
+                postRepository.increaseViewCnt(postId, (int) count);
+                flushedViewCounts.merge(postId, count, Long::sum);
+            } catch (RuntimeException e) {
+                pendingViewCounts.computeIfAbsent(postId, key -> new LongAdder()).add(count);
+                log.error("게시글 조회수 반영 실패 : postId = {}", postId, e);
+            }
+        }
+    }
+
+    /**
+     * 조회수가 반영된 게시글의 캐시를 주기적으로 삭제 - 다음 조회 시 DB 의 조회수로 다시 캐시
+     */
+    @Scheduled(initialDelayString = "${post.view-count.cache-refresh-interval:60000}", fixedDelayString = "${post.view-count.cache-refresh-interval:60000}")
+    public void refreshCache() {
+        for (Long postId : flushedViewCounts.keySet()) {
+            redisReadThroughCache.evict(PostService.POST_CACHE_KEY + postId);
+            flushedViewCounts.remove(postId);
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
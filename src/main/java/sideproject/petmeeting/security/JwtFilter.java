@@ -1,11 +1,6 @@
 package sideproject.petmeeting.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,8 +16,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.security.Key;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.Collectors;
@@ -32,42 +25,24 @@ public class JwtFilter extends OncePerRequestFilter {
     public static String AUTHORIZATION_HEADER = "Authorization";
     public static String BEARER_PREFIX = "Bearer ";
     public static String AUTHORITIES_KEY = "auth";
-    private final String SECRET_KEY;
     private final TokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws IOException, ServletException {
 
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
         String jwt = resolveToken(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Claims claims;
-            try {
-                claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
-            } catch (ExpiredJwtException e) {
-                claims = e.getClaims();
-            }
-
-            if (claims.getExpiration().toInstant().toEpochMilli() < Instant.now().toEpochMilli()) {
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().println(
-                        new ObjectMapper().writeValueAsString(
-                                //ResponseDto
-                                ("BAD_REQUEST"+ "Token이 유효햐지 않습니다.")
-                        )
-                );
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            }
+        // 서명, 만료 검증과 claims 조회를 한 번의 파싱으로 처리
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
 
+        if (claims != null) {
             String subject = claims.getSubject();
             Collection<? extends GrantedAuthority> authorities =
                     Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
+            // 인증 정보는 UserDetailsServiceImpl 에서 캐시하므로 요청마다 회원을 조회하지 않음
             UserDetails principal = userDetailsService.loadUserByUsername(subject);
 
             Authentication authentication = new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
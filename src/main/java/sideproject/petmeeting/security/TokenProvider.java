@@ -32,14 +32,16 @@ public class TokenProvider {
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30 * 6;            //30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;     //7일
     private final Key key;
+    private final JwtParser jwtParser;
     private final RefreshTokenRepository refreshTokenRepository;
 
-    // 암호화
+    // 암호화, key 와 parser 는 한 번만 생성해서 재사용
     public TokenProvider(@Value("${jwt.secret}") String secretKey,
                          RefreshTokenRepository refreshTokenRepository) {
         this.refreshTokenRepository = refreshTokenRepository;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
@@ -89,9 +91,17 @@ public class TokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 토큰 검증 및 claims 조회를 한 번의 파싱으로 처리
+     * @param token : access token
+     * @return : 유효한 토큰이면 claims, 유효하지 않으면 null
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -101,7 +111,7 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return null;
     }
 
     public String getUserEmailByToken(String accessToken) {
@@ -111,12 +121,7 @@ public class TokenProvider {
         }
         Claims claims;
         try {
-            claims = Jwts
-                    .parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            claims = jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             log.info("만료된 Token 입니다.");
             return null;
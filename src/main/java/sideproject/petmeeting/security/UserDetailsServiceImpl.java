@@ -1,26 +1,116 @@
 package sideproject.petmeeting.security;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.repository.MemberRepository;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
+    private static final int PRINCIPAL_CACHE_MAX_SIZE = 10_000;
+    // 인증 정보 캐시 삭제 채널 - 캐시는 서버마다 따로 가지므로 삭제할 email 을 모든 서버에 전달
+    private static final ChannelTopic EVICT_TOPIC = new ChannelTopic("principal:evict");
 
     private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
 
+    // email -> 인증 정보, 가장 오래 사용되지 않은 항목부터 삭제
+    private final Map<String, CachedPrincipal> principalCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                    return size() > PRINCIPAL_CACHE_MAX_SIZE;
+                }
+            });
+
+    @Value("${jwt.principal-cache.ttl-seconds:60}")
+    private long principalCacheTtlSeconds;
+
+    @PostConstruct
+    public void subscribeEviction() {
+        redisMessageListener.addMessageListener((message, pattern) ->
+                principalCache.remove(new String(message.getBody(), StandardCharsets.UTF_8)), EVICT_TOPIC);
+    }
+
+    /**
+     * 인증 정보 조회
+     * 요청마다 회원을 조회하지 않도록 조회 결과를 TTL 동안 캐시
+     * @param username : 토큰의 subject(email)
+     * @return : 인증 정보
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedPrincipal cached = principalCache.get(username);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.userDetails;
+        }
+
         Optional<Member> optionalMember = memberRepository.findByEmail(username);
-        return optionalMember
+        UserDetails userDetails = optionalMember
                 .map(UserDetailsImpl::new)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
+
+        principalCache.put(username, new CachedPrincipal(userDetails, System.currentTimeMillis() + principalCacheTtlSeconds * 1000));
+        return userDetails;
+    }
+
+    /**
+     * 캐시된 인증 정보 삭제 - 회원 정보 수정, 로그아웃 시 호출
+     * 이 서버의 캐시를 지우고, 다른 서버에도 Redis 채널로 삭제를 알림
+     * 커밋 전 다른 요청이 수정 전 회원을 다시 캐시할 수 있으므로 트랜잭션 커밋 후 한 번 더 삭제
+     * @param email : 회원 email
+     */
+    public void evictPrincipal(String email) {
+        evict(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                }
+            });
+        }
+    }
+
+    private void evict(String email) {
+        principalCache.remove(email);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), email);
+        } catch (RuntimeException e) {
+            // 다른 서버의 캐시는 TTL 이 지나면 만료
+            log.warn("인증 정보 캐시 삭제 전파 실패 : email = {}", email, e);
+        }
+    }
+
+
+    private static class CachedPrincipal {
+        private final UserDetails userDetails;
+        private final long expiresAt;
+
+        private CachedPrincipal(UserDetails userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,50 @@
+package sideproject.petmeeting.timeline.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sideproject.petmeeting.common.Response;
+import sideproject.petmeeting.common.ResponseResource;
+import sideproject.petmeeting.common.StatusEnum;
+import sideproject.petmeeting.post.dto.PostPageResponseDto;
+import sideproject.petmeeting.security.UserDetailsImpl;
+import sideproject.petmeeting.timeline.service.TimelineService;
+
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/timeline", produces = HAL_JSON_VALUE + ";charset=UTF-8")
+public class TimelineController {
+    private final TimelineService timelineService;
+
+    /**
+     * 타임라인 조회(커서 방식) - 내가 팔로우 하는 회원의 게시글
+     * @param userDetails : 사용자
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 생략
+     * @return : 타임라인 조회 성공 응답, 다음 페이지가 있으면 next 링크 추가
+     */
+    @GetMapping
+    public ResponseEntity<Object> getTimeline(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                              @RequestParam(value = "cursor", required = false) String cursor) {
+        PostPageResponseDto postPageResponseDto = timelineService.getTimeline(userDetails.getMember(), cursor);
+
+        ResponseResource responseResource = new ResponseResource(postPageResponseDto);
+        responseResource.add(linkTo(methodOn(TimelineController.class).getTimeline(null, cursor)).withSelfRel());
+        if (postPageResponseDto.getNextCursor() != null) {
+            responseResource.add(linkTo(methodOn(TimelineController.class)
+                    .getTimeline(null, postPageResponseDto.getNextCursor())).withRel("next"));
+        }
+
+        Response response = new Response(StatusEnum.OK, "타임라인 조회 성공", responseResource);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
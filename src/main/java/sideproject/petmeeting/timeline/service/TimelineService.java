@@ -0,0 +1,168 @@
+package sideproject.petmeeting.timeline.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sideproject.petmeeting.follow.domain.dto.FollowEdgeDto;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.follow.service.FollowGraphCache;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.post.dto.PostPageResponseDto;
+import sideproject.petmeeting.post.dto.PostResponseDto;
+import sideproject.petmeeting.post.repository.PostRepository;
+import sideproject.petmeeting.post.service.PostService;
+import sideproject.petmeeting.timeline.dto.TimelineCursor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static sideproject.petmeeting.timeline.service.TimelineWriter.CELEBRITY_KEY;
+import static sideproject.petmeeting.timeline.service.TimelineWriter.LOADED;
+import static sideproject.petmeeting.timeline.service.TimelineWriter.TIMELINE_KEY;
+
+/**
+ * 타임라인 조회 - 내가 팔로우 하는 회원의 게시글(최신순, 커서 방식)
+ * TimelineWriter 가 쌓아둔 게시글 id 와 팔로워가 많은 작성자의 게시글 id 를 합친 뒤 해당 페이지의 게시글만 조회
+ * 타임라인이 없으면(처음 조회, 만료, 팔로우/취소) 팔로우 하는 회원의 최근 게시글로 다시 적재
+ * 만료 시간은 적재 시점부터 계산(조회로 연장하지 않음) - 반영하지 못한 게시글도 만료 후 다시 적재할 때 포함
+ */
+@Slf4j
+@Service
+public class TimelineService {
+    private static final int TIMELINE_SIZE = 15;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final FollowRepository followRepository;
+    private final FollowGraphCache followGraphCache;
+    private final int maxLength;
+    private final long ttlSeconds;
+
+    public TimelineService(StringRedisTemplate stringRedisTemplate,
+                           PostRepository postRepository,
+                           PostService postService,
+                           FollowRepository followRepository,
+                           FollowGraphCache followGraphCache,
+                           @Value("${timeline.max-length:500}") int maxLength,
+                           @Value("${timeline.ttl-seconds:604800}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.followRepository = followRepository;
+        this.followGraphCache = followGraphCache;
+        this.maxLength = maxLength;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 타임라인 조회
+     * @param member : 사용자
+     * @param cursor : 이전 응답의 nextCursor, 첫 페이지 조회 시 null
+     * @return : 커서 이전의 게시글, 다음 커서 정보
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponseDto getTimeline(Member member, String cursor) {
+        long cursorPostId = cursor == null ? Long.MAX_VALUE : TimelineCursor.decode(cursor).getPostId();
+
+        Set<Long> postIds = new TreeSet<>(Comparator.reverseOrder());
+        for (Long postId : readTimeline(member.getId(), cursorPostId)) {
+            if (postId < cursorPostId) {
+                postIds.add(postId);
+            }
+        }
+
+        // 팔로워가 많은 작성자의 게시글은 조회 시점에 DB 에서 조회(fan-out-on-read)
+        List<Long> celebrityIds = getFollowingCelebrities(member.getId());
+        if (!celebrityIds.isEmpty()) {
+            postIds.addAll(postRepository.findTimelinePostIds(celebrityIds, cursorPostId, PageRequest.of(0, TIMELINE_SIZE + 1)));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Long> pagePostIds = postIds.stream().limit(TIMELINE_SIZE + 1).collect(Collectors.toList());
+        boolean hasNextPage = pagePostIds.size() > TIMELINE_SIZE;
+        if (hasNextPage) {
+            pagePostIds = pagePostIds.subList(0, TIMELINE_SIZE);
+        }
+
+        List<PostResponseDto> postList = postService.getPostList(pagePostIds);
+
+        String nextCursor = null;
+        if (hasNextPage) {
+            nextCursor = new TimelineCursor(pagePostIds.get(pagePostIds.size() - 1)).encode();
+        }
+
+        return PostPageResponseDto.builder()
+                .postList(postList)
+                .isFirstPage(cursor == null)
+                .hasNextPage(hasNextPage)
+                .hasPreviousPage(cursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+
+    /**
+     * Redis 타임라인 조회, 없으면 팔로우 하는 회원의 최근 게시글로 다시 적재
+     * Redis 장애 시에는 팔로우 하는 회원의 게시글을 DB 에서 직접 조회
+     */
+    private List<Long> readTimeline(Long memberId, long cursorPostId) {
+        String key = TIMELINE_KEY + memberId;
+        try {
+            List<String> values = stringRedisTemplate.opsForList().range(key, 0, -1);
+            if (values == null || values.isEmpty()) {
+                return rebuild(key, memberId);
+            }
+            return values.stream()
+                    .filter(value -> !LOADED.equals(value))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            log.warn("타임라인 조회 실패 : memberId = {}", memberId, e);
+            List<Long> followingIds = getFollowingIds(memberId);
+            return followingIds.isEmpty() ? List.of() :
+                    postRepository.findTimelinePostIds(followingIds, cursorPostId, PageRequest.of(0, TIMELINE_SIZE + 1));
+        }
+    }
+
+    private List<Long> rebuild(String key, Long memberId) {
+        List<Long> followingIds = getFollowingIds(memberId);
+        List<Long> postIds = followingIds.isEmpty() ? List.of() :
+                postRepository.findTimelinePostIds(followingIds, Long.MAX_VALUE, PageRequest.of(0, maxLength));
+
+        List<String> values = new ArrayList<>();
+        for (Long postId : postIds) {
+            values.add(String.valueOf(postId));
+        }
+        values.add(LOADED);
+
+        stringRedisTemplate.delete(key);
+        stringRedisTemplate.opsForList().rightPushAll(key, values);
+        stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+        return postIds;
+    }
+
+    private List<Long> getFollowingIds(Long memberId) {
+        return followRepository.findFollowingEdges(memberId).stream()
+                .map(FollowEdgeDto::getMemberId)
+                .collect(Collectors.toList());
+    }
+
+    // 팔로워가 많은 작성자 중 팔로우 하는 작성자 - 팔로우 관계 캐시와 한 번의 호출로 비교
+    private List<Long> getFollowingCelebrities(Long memberId) {
+        try {
+            return followGraphCache.findFollowingIn(memberId, CELEBRITY_KEY);
+        } catch (RuntimeException e) {
+            log.warn("타임라인 작성자 조회 실패 : memberId = {}", memberId, e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package sideproject.petmeeting.timeline.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sideproject.petmeeting.follow.domain.dto.FollowEdgeDto;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 타임라인 쓰기(fan-out-on-write) - 새 게시글 id 를 팔로워의 타임라인(Redis list) 앞에 추가하고 최대 길이로 자름
+ * timeline:{memberId} - 팔로우 하는 회원의 게시글 id(최신순), 조회한 적 있는 회원의 타임라인에만 추가(LPUSHX)
+ * timeline:celebrity - 팔로워가 많아 fan-out 하지 않는 작성자 id, 타임라인 조회 시 DB 에서 직접 조회(fan-out-on-read)
+ * 게시글 작성 시 팔로워 수로 다시 판단 - 팔로워가 줄어 제외된 작성자의 팔로워 타임라인은 삭제해 DB 에서 다시 적재
+ * 팔로우/취소한 회원의 타임라인은 삭제해 다음 조회 때 DB 에서 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineWriter {
+    static final String TIMELINE_KEY = "timeline:";
+    static final String CELEBRITY_KEY = "timeline:celebrity";
+    // 빈 타임라인도 적재 여부를 알 수 있도록 넣어두는 값(게시글 id 와 겹치지 않음)
+    static final String LOADED = "0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+    private final MemberRepository memberRepository;
+
+    @Value("${timeline.max-length:500}")
+    private int maxLength;
+    @Value("${timeline.fan-out.max-followers:1000}")
+    private long maxFanOutFollowers;
+
+    /**
+     * 새 게시글을 팔로워 타임라인에 반영 - 트랜잭션 커밋 후 실행
+     * @param authorId : 작성자 id
+     * @param postId : 게시글 id
+     */
+    public void publish(Long authorId, Long postId) {
+        afterCommit(() -> fanOut(authorId, postId));
+    }
+
+    /**
+     * 팔로우/취소한 회원의 타임라인 삭제 - 트랜잭션 커밋 후 실행, 다음 조회 때 DB 에서 다시 적재
+     * @param memberId : 팔로우/취소한 회원 id
+     */
+    public void invalidate(Long memberId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.delete(TIMELINE_KEY + memberId);
+            } catch (RuntimeException e) {
+                log.warn("타임라인 삭제 실패 : memberId = {}", memberId, e);
+            }
+        });
+    }
+
+    private void fanOut(Long authorId, Long postId) {
+        try {
+            int followerCount = memberRepository.findById(authorId).map(Member::getFollowerCount).orElse(0);
+            if (followerCount > maxFanOutFollowers) {
+                stringRedisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(authorId));
+                return;
+            }
+
+            List<FollowEdgeDto> followers = followRepository.findFollowerEdges(authorId);
+            Long removed = stringRedisTemplate.opsForSet().remove(CELEBRITY_KEY, String.valueOf(authorId));
+            if (removed != null && removed > 0) {
+                // fan-out 하지 않았던 게시글이 타임라인에 없으므로 팔로워 타임라인을 DB 에서 다시 적재
+                stringRedisTemplate.delete(followers.stream()
+                        .map(follower -> TIMELINE_KEY + follower.getMemberId())
+                        .collect(Collectors.toList()));
+                return;
+            }
+
+            String value = String.valueOf(postId);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (FollowEdgeDto follower : followers) {
+                    String key = TIMELINE_KEY + follower.getMemberId();
+                    stringConnection.lPushX(key, value);
+                    stringConnection.lTrim(key, 0, maxLength - 1);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 반영하지 못한 게시글은 타임라인이 만료된 뒤 DB 에서 다시 적재할 때 포함
+            log.warn("타임라인 반영 실패 : authorId = {}, postId = {}", authorId, postId, e);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
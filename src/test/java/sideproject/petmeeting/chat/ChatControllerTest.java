@@ -22,12 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import sideproject.petmeeting.chat.domain.ChatMember;
+import sideproject.petmeeting.chat.domain.ChatMessage;
 import sideproject.petmeeting.chat.domain.ChatRoom;
 import sideproject.petmeeting.chat.domain.RedisChatRoom;
 import sideproject.petmeeting.chat.dto.request.ChatRoomRequestDto;
 import sideproject.petmeeting.chat.repository.ChatMemberRepository;
+import sideproject.petmeeting.chat.repository.ChatMessageRepository;
 import sideproject.petmeeting.chat.repository.ChatRoomRepository;
 import sideproject.petmeeting.chat.repository.RedisChatRoomRepository;
+import sideproject.petmeeting.chat.service.ChatPresenceService;
 import sideproject.petmeeting.meeting.domain.Meeting;
 import sideproject.petmeeting.meeting.repository.MeetingRepository;
 import sideproject.petmeeting.member.domain.Member;
@@ -37,7 +40,7 @@ import sideproject.petmeeting.token.repository.RefreshTokenRepository;
 
 import java.time.LocalDateTime;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -52,7 +55,9 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static sideproject.petmeeting.chat.domain.MessageType.TALK;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
 
 @ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
@@ -78,6 +83,10 @@ class ChatControllerTest {
     ChatMemberRepository chatMemberRepository;
     @Autowired
     RedisChatRoomRepository redisChatRoomRepository;
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+    @Autowired
+    ChatPresenceService chatPresenceService;
 
     @BeforeEach
     void init(WebApplicationContext webApplicationContext,
@@ -214,12 +223,44 @@ class ChatControllerTest {
                 .build();
         chatRoomRepository.save(chatRoom1);
         chatRoomRepository.save(chatRoom2);
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom1).member(member).build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom2).member(member).build());
+
+        // 참여하지 않은 채팅방은 조회되지 않음
+        Member otherMember = memberRepository.save(Member.builder()
+                .nickname("other")
+                .password("test")
+                .email("other@test.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build());
+        Meeting meeting3 = meetingRepository.save(Meeting.builder()
+                .title("third meeting title")
+                .content("third meeting content")
+                .member(otherMember)
+                .imageUrl("imageUrl")
+                .address("address")
+                .coordinateX("coordinateX")
+                .coordinateY("coordinateY")
+                .placeName("placeName")
+                .time(LocalDateTime.now().plusDays((1)))
+                .recruitNum(5)
+                .species("species")
+                .build());
+        ChatRoom chatRoom3 = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting3)
+                .roomName("third chat room")
+                .build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom3).member(otherMember).build());
 
         this.mockMvc.perform(get("/api/chat")
                         .header("Authorization", getAccessToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(HAL_JSON))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("data.object.length()").value(2))
+                .andExpect(jsonPath("data.object[0].roomName").value("second chat room"))
+                .andExpect(jsonPath("data.object[1].roomName").value("first chat room"))
                 .andDo(print())
                 .andDo(document("get chatRoomList",
                         requestHeaders(
@@ -242,6 +283,134 @@ class ChatControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("채팅방 별 읽지 않은 메세지 수 조회")
+    public void getUnreadCounts() throws Exception {
+        // Given
+        Member member = memberRepository.findByEmail("test@test.com").get();
+        Meeting meeting = meetingRepository.findByTitle("first meeting title").get();
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting)
+                .roomId("unreadRoomId")
+                .roomName("unread chat room")
+                .build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom).member(member).build());
+
+        ChatMessage readMessage = chatMessageRepository.save(buildMessage(chatRoom, member));
+        chatMessageRepository.save(buildMessage(chatRoom, member));
+        chatMessageRepository.save(buildMessage(chatRoom, member));
+        chatPresenceService.markRead(member, chatRoom.getRoomId(), readMessage.getId());
+
+        // When & Then
+        this.mockMvc.perform(get("/api/chat/unread")
+                        .header("Authorization", getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.object[0].roomId").value("unreadRoomId"))
+                .andExpect(jsonPath("data.object[0].lastReadMessageId").value(readMessage.getId()))
+                .andExpect(jsonPath("data.object[0].unreadCount").value(2))
+                .andDo(document("get unread counts",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.ACCEPT).description("accept header"),
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("access token"),
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").description("status of action"),
+                                fieldWithPath("message").description("message of action"),
+                                fieldWithPath("data.object[0].roomId").description("id of chatRoom"),
+                                fieldWithPath("data.object[0].lastReadMessageId").description("id of last read message"),
+                                fieldWithPath("data.object[0].unreadCount").description("number of unread messages"),
+                                fieldWithPath("data.links[0].rel").description("relation"),
+                                fieldWithPath("data.links[0].href").description("url of action")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("채팅방 접속 회원 조회 - 회원 id 로 관리하고 현재 닉네임으로 응답")
+    public void getOnlineMembers() throws Exception {
+        // Given
+        Member member = memberRepository.findByEmail("test@test.com").get();
+        Meeting meeting = meetingRepository.findByTitle("first meeting title").get();
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting)
+                .roomId("onlineRoomId")
+                .roomName("online chat room")
+                .build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom).member(member).build());
+        chatPresenceService.enter(chatRoom.getRoomId(), member.getId(), "session-1", "sub-1");
+        chatPresenceService.enter(chatRoom.getRoomId(), member.getId(), "session-2", "sub-1");
+
+        try {
+            // When & Then
+            this.mockMvc.perform(get("/api/chat/{roomId}/online", chatRoom.getRoomId())
+                            .header("Authorization", getAccessToken())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(HAL_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("data.object.length()").value(1))
+                    .andExpect(jsonPath("data.object[0]").value("Tommy"))
+                    .andDo(document("get online members",
+                            requestHeaders(
+                                    headerWithName(HttpHeaders.ACCEPT).description("accept header"),
+                                    headerWithName(HttpHeaders.AUTHORIZATION).description("access token"),
+                                    headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                            ),
+                            responseHeaders(
+                                    headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                            ),
+                            responseFields(
+                                    fieldWithPath("status").description("status of action"),
+                                    fieldWithPath("message").description("message of action"),
+                                    fieldWithPath("data.object[]").description("nicknames of online members"),
+                                    fieldWithPath("data.links[0].rel").description("relation"),
+                                    fieldWithPath("data.links[0].href").description("url of action")
+                            )
+                    ));
+
+            // 구독 하나가 끝나도 다른 구독이 남아 있으면 접속 중
+            chatPresenceService.leave(chatRoom.getRoomId(), member.getId(), "session-1", "sub-1");
+            assertThat(chatPresenceService.getOnlineMembers(member, chatRoom.getRoomId())).containsExactly("Tommy");
+        } finally {
+            chatPresenceService.leave(chatRoom.getRoomId(), member.getId(), "session-1", "sub-1");
+            chatPresenceService.leave(chatRoom.getRoomId(), member.getId(), "session-2", "sub-1");
+        }
+        assertThat(chatPresenceService.getOnlineMembers(member, chatRoom.getRoomId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채팅방 접속 회원 조회 - 참여하지 않은 채팅방은 조회 불가")
+    public void getOnlineMembersNotJoined() throws Exception {
+        // Given
+        Meeting meeting = meetingRepository.findByTitle("first meeting title").get();
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting)
+                .roomId("notJoinedRoomId")
+                .roomName("not joined chat room")
+                .build());
+
+        // When & Then
+        this.mockMvc.perform(get("/api/chat/{roomId}/online", chatRoom.getRoomId())
+                        .header("Authorization", getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    private static ChatMessage buildMessage(ChatRoom chatRoom, Member member) {
+        ChatMessage chatMessage = new ChatMessage();
+        chatMessage.setMessage("test Message");
+        chatMessage.setSender(member.getNickname());
+        chatMessage.setRoomId(chatRoom.getRoomId());
+        chatMessage.setType(TALK);
+        return chatMessage;
+    }
+
     @Test
     private String getAccessToken() throws Exception {
         // Given
@@ -45,6 +45,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static sideproject.petmeeting.chat.domain.MessageType.TALK;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
@@ -161,6 +162,53 @@ class ChatMessageControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("이전 메세지 조회 - 최신 메세지부터 size 개수만큼 조회")
+    void getMessageList_Previous() throws Exception {
+        // Given
+        Member member = buildMember();
+        memberRepository.save(member);
+
+        Meeting meeting = buildMeeting(member);
+        meetingRepository.save(meeting);
+
+        ChatRoom chatRoom = buildChatRoom(meeting);
+        chatRoomRepository.save(chatRoom);
+
+        ChatMember chatMember = buildChatMember(member, chatRoom);
+        chatMemberRepository.save(chatMember);
+
+        ChatMessage oldestMessage = buildMessage(chatRoom, chatMember);
+        chatMessageRepository.save(oldestMessage);
+        ChatMessage secondMessage = buildMessage(chatRoom, chatMember);
+        chatMessageRepository.save(secondMessage);
+        ChatMessage newestMessage = buildMessage(chatRoom, chatMember);
+        chatMessageRepository.save(newestMessage);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/message/" + chatRoom.getRoomId())
+                        .param("size", "2")
+                        .header("Authorization", getAccessToken())
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.object.length()").value(2))
+                .andExpect(jsonPath("data.object[1].id").value(newestMessage.getId()))
+                .andExpect(jsonPath("data.links[1].rel").value("previous"));
+
+        this.mockMvc.perform(get("/api/message/" + chatRoom.getRoomId())
+                        .param("before", String.valueOf(secondMessage.getId()))
+                        .param("size", "2")
+                        .header("Authorization", getAccessToken())
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.object.length()").value(1))
+                .andExpect(jsonPath("data.object[0].id").value(oldestMessage.getId()));
+    }
+
     private String getAccessToken() throws Exception {
         // Given
         String email = "test@test.com";
@@ -0,0 +1,39 @@
+package sideproject.petmeeting.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChatMessageIdGeneratorTest {
+
+    @Autowired
+    ChatMessageIdGenerator chatMessageIdGenerator;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("메시지 id 는 DB 에 저장된 id 보다 큰 값부터 순서대로 발급")
+    void nextIdTest() {
+        // Given - Redis 의 id 가 초기화된 상태
+        stringRedisTemplate.delete(ChatMessageIdGenerator.ID_KEY);
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_message", Long.class);
+
+        // When
+        Long first = chatMessageIdGenerator.nextId();
+        Long second = chatMessageIdGenerator.nextId();
+
+        // Then
+        assertThat(first).isGreaterThan(maxId);
+        assertThat(second).isEqualTo(first + 1);
+    }
+}
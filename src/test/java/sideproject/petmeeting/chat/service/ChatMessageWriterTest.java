@@ -0,0 +1,222 @@
+package sideproject.petmeeting.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import sideproject.petmeeting.chat.domain.ChatMessage;
+import sideproject.petmeeting.chat.repository.ChatMessageRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sideproject.petmeeting.chat.domain.MessageType.TALK;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChatMessageWriterTest {
+
+    @Autowired
+    ChatMessageWriter chatMessageWriter;
+    @Autowired
+    ChatMessageIdGenerator chatMessageIdGenerator;
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("대기열에 쌓인 채팅 메시지를 배치로 저장")
+    void writeTest() throws InterruptedException {
+        // Given
+        String roomId = UUID.randomUUID().toString();
+        for (int i = 0; i < 5; i++) {
+            chatMessageWriter.write(message(roomId, "message " + i));
+        }
+
+        // When
+        List<ChatMessage> messages = List.of();
+        for (int i = 0; i < 50 && messages.size() < 5; i++) {
+            Thread.sleep(100);
+            messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+        }
+
+        // Then
+        assertThat(messages).hasSize(5);
+        assertThat(messages.get(0).getMessage()).isEqualTo("message 4");
+        assertThat(messages.get(0).getCreatedAt()).isNotNull();
+        assertThat(meterRegistry.get("chat.message.writer.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("받을 수 없는 채팅 메시지는 Redis 대기열에 보관한 뒤 다시 저장")
+    void backlogTest() throws InterruptedException {
+        // Given - 시작 전이라 메시지를 받을 수 없는 저장기
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChatMessageWriter writer = new ChatMessageWriter(jdbcTemplate, transactionManager, stringRedisTemplate, objectMapper, registry,
+                10, 10, 100, 3, 10, 5);
+        String roomId = UUID.randomUUID().toString();
+        for (int i = 0; i < 3; i++) {
+            writer.write(message(roomId, "message " + i));
+        }
+        assertThat(registry.get("chat.message.writer.queue.depth").gauge().value()).isZero();
+        assertThat(registry.get("chat.message.writer.overflow").counter().count()).isEqualTo(3);
+        assertThat(stringRedisTemplate.opsForList().range(ChatMessageWriter.BACKLOG_KEY, 0, -1))
+                .filteredOn(value -> value.contains(roomId))
+                .hasSize(3);
+
+        // When
+        writer.start();
+        List<ChatMessage> messages = List.of();
+        try {
+            writer.redrive();
+            for (int i = 0; i < 50 && messages.size() < 3; i++) {
+                Thread.sleep(100);
+                messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+            }
+        } finally {
+            writer.stop();
+        }
+
+        // Then
+        assertThat(messages).hasSize(3);
+        assertThat(messages).extracting(ChatMessage::getMessage)
+                .containsExactlyInAnyOrder("message 0", "message 1", "message 2");
+        assertThat(stringRedisTemplate.opsForList().range(ChatMessageWriter.BACKLOG_KEY, 0, -1))
+                .noneMatch(value -> value.contains(roomId));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 건씩 저장하고, 저장할 수 없는 메시지만 dead-letter 로 이동")
+    void poisonMessageTest() throws InterruptedException {
+        // Given - 컬럼 길이(255)를 넘는 메시지가 섞인 배치
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChatMessageWriter writer = new ChatMessageWriter(jdbcTemplate, transactionManager, stringRedisTemplate, objectMapper, registry,
+                10, 10, 1000, 2, 10, 5);
+        String roomId = UUID.randomUUID().toString();
+        writer.start();
+
+        List<ChatMessage> messages = List.of();
+        try {
+            // When
+            writer.write(message(roomId, "message 0"));
+            writer.write(message(roomId, "x".repeat(300)));
+            writer.write(message(roomId, "message 2"));
+            for (int i = 0; i < 50 && messages.size() < 2; i++) {
+                Thread.sleep(100);
+                messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+            }
+        } finally {
+            writer.stop();
+        }
+
+        // Then
+        assertThat(messages).extracting(ChatMessage::getMessage).containsExactly("message 2", "message 0");
+        assertThat(registry.get("chat.message.writer.failed.batches").counter().count()).isEqualTo(1);
+        assertThat(registry.get("chat.message.writer.dead.letter").counter().count()).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForList().range(ChatMessageWriter.DEAD_LETTER_KEY, 0, -1))
+                .filteredOn(value -> value.contains(roomId))
+                .hasSize(1);
+        assertThat(stringRedisTemplate.opsForList().range(ChatMessageWriter.BACKLOG_KEY, 0, -1))
+                .noneMatch(value -> value.contains(roomId));
+    }
+
+    @Test
+    @DisplayName("Redis 대기열의 메시지는 보낸 시각으로 저장하고, 재처리 횟수를 넘으면 dead-letter 로 이동")
+    void redriveTest() throws Exception {
+        // Given - 한 시간 전에 보낸 메시지, 재처리 횟수를 모두 사용한 메시지
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChatMessageWriter writer = new ChatMessageWriter(jdbcTemplate, transactionManager, stringRedisTemplate, objectMapper, registry,
+                10, 10, 100, 3, 10, 5);
+        String roomId = UUID.randomUUID().toString();
+        LocalDateTime sentAt = LocalDateTime.now().minusHours(1).withNano(0);
+        stringRedisTemplate.opsForList().rightPushAll(ChatMessageWriter.BACKLOG_KEY,
+                objectMapper.writeValueAsString(new ChatMessageWriter.PendingMessage(chatMessageIdGenerator.nextId(), TALK, roomId, "sender", "late message", sentAt, 0)),
+                objectMapper.writeValueAsString(new ChatMessageWriter.PendingMessage(chatMessageIdGenerator.nextId(), TALK, roomId, "sender", "stuck message", sentAt, 5)));
+
+        // When
+        writer.start();
+        List<ChatMessage> messages = List.of();
+        try {
+            writer.redrive();
+            for (int i = 0; i < 50 && messages.isEmpty(); i++) {
+                Thread.sleep(100);
+                messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+            }
+        } finally {
+            writer.stop();
+        }
+
+        // Then
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getMessage()).isEqualTo("late message");
+        assertThat(messages.get(0).getCreatedAt()).isEqualTo(sentAt);
+        assertThat(stringRedisTemplate.opsForList().range(ChatMessageWriter.DEAD_LETTER_KEY, 0, -1))
+                .filteredOn(value -> value.contains(roomId))
+                .singleElement()
+                .satisfies(value -> assertThat(value).contains("stuck message"));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 id 의 채팅 메시지는 다시 저장하지 않음")
+    void duplicateMessageTest() throws InterruptedException {
+        // Given - 저장이 끝났지만 응답을 받지 못해 다시 들어온 메시지
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChatMessageWriter writer = new ChatMessageWriter(jdbcTemplate, transactionManager, stringRedisTemplate, objectMapper, registry,
+                10, 10, 1000, 2, 10, 5);
+        String roomId = UUID.randomUUID().toString();
+        ChatMessage saved = message(roomId, "message 0");
+        writer.start();
+
+        List<ChatMessage> messages = List.of();
+        try {
+            // When
+            writer.write(saved);
+            for (int i = 0; i < 50 && messages.isEmpty(); i++) {
+                Thread.sleep(100);
+                messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+            }
+            writer.write(saved);
+            writer.write(message(roomId, "message 1"));
+            for (int i = 0; i < 50 && messages.size() < 2; i++) {
+                Thread.sleep(100);
+                messages = chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 10));
+            }
+        } finally {
+            writer.stop();
+        }
+
+        // Then
+        assertThat(messages).extracting(ChatMessage::getMessage).containsExactly("message 1", "message 0");
+        assertThat(messages.get(1).getId()).isEqualTo(saved.getId());
+        assertThat(registry.get("chat.message.writer.dead.letter").counter().count()).isZero();
+    }
+
+    private ChatMessage message(String roomId, String message) {
+        return ChatMessage.builder()
+                .id(chatMessageIdGenerator.nextId())
+                .type(TALK)
+                .roomId(roomId)
+                .sender("sender")
+                .message(message)
+                .build();
+    }
+}
@@ -144,6 +144,7 @@ class CommentControllerTest {
         assertThat(commentRepository.findAll().size()).isEqualTo(1);
         assertThat(comment.getPost().getId()).isEqualTo(savedPost.getId());
         assertThat(comment.getMember().getNickname()).isEqualTo("Tommy");
+        assertThat(postRepository.findCommentCountById(savedPost.getId())).contains(1);
     }
 
     @Test
@@ -209,8 +210,9 @@ class CommentControllerTest {
                         .accept(HAL_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("data.object[0].id").exists())
-                .andExpect(jsonPath("data.object[0].content").exists())
+                .andExpect(jsonPath("data.object.commentList[0].id").exists())
+                .andExpect(jsonPath("data.object.commentList[0].content").exists())
+                .andExpect(jsonPath("data.object.commentList[0].authorNickname").value("Tommy"))
                 .andDo(document("get-comment",
                                 requestHeaders(
                                         headerWithName(HttpHeaders.ACCEPT).description("accept header"),
@@ -223,8 +225,13 @@ class CommentControllerTest {
                                 responseFields(
                                         fieldWithPath("status").description("status of action"),
                                         fieldWithPath("message").description("message of action"),
-                                        fieldWithPath("data.object[0].id").description("id of comment"),
-                                        fieldWithPath("data.object[0].content").description("content of comment"),
+                                        fieldWithPath("data.object.commentList[0].id").description("id of comment"),
+                                        fieldWithPath("data.object.commentList[0].content").description("content of comment"),
+                                        fieldWithPath("data.object.commentList[0].authorId").description("id of comment author"),
+                                        fieldWithPath("data.object.commentList[0].authorNickname").description("nickname of comment author"),
+                                        fieldWithPath("data.object.commentList[0].authorImageUrl").description("image url of comment author"),
+                                        fieldWithPath("data.object.commentCount").description("number of comments of post"),
+                                        fieldWithPath("data.object.hasNextPage").description("whether next page exists"),
                                         fieldWithPath("data.links[0].rel").description("relation"),
                                         fieldWithPath("data.links[0].href").description("url of action")
                                 )
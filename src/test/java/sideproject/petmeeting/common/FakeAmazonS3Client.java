@@ -0,0 +1,91 @@
+package sideproject.petmeeting.common;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 클라이언트 - 네트워크 없이 업로드/삭제 요청을 기록
+ * 처음 failures 번의 업로드는 delayMillis 만큼 기다린 뒤 실패
+ */
+@SuppressWarnings("deprecation")
+public class FakeAmazonS3Client extends AmazonS3Client {
+    private final AtomicInteger putCount = new AtomicInteger();
+    private final List<String> putKeys = new CopyOnWriteArrayList<>();
+    private final List<String> deletedKeys = new CopyOnWriteArrayList<>();
+    private volatile int failures;
+    private volatile long delayMillis;
+
+    public FakeAmazonS3Client() {
+        super(new AWSStaticCredentialsProvider(new BasicAWSCredentials("fake", "fake")), new ClientConfiguration());
+    }
+
+    public void reset(int failures, long delayMillis) {
+        this.failures = failures;
+        this.delayMillis = delayMillis;
+        putCount.set(0);
+        putKeys.clear();
+        deletedKeys.clear();
+    }
+
+    public int getPutCount() {
+        return putCount.get();
+    }
+
+    public List<String> getPutKeys() {
+        return putKeys;
+    }
+
+    public List<String> getDeletedKeys() {
+        return deletedKeys;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        int attempt = putCount.incrementAndGet();
+        if (attempt <= failures) {
+            sleep();
+            AmazonServiceException exception = new AmazonServiceException("fake upload failure");
+            exception.setStatusCode(500);
+            throw exception;
+        }
+        putKeys.add(putObjectRequest.getKey());
+        return new PutObjectResult();
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        deletedKeys.add(deleteObjectRequest.getKey());
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("http", "fake-s3", "/" + bucketName + "/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep() {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package sideproject.petmeeting.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.post.dto.PostRequestDto;
+import sideproject.petmeeting.post.dto.PostResponseDto;
+import sideproject.petmeeting.post.repository.PostRepository;
+import sideproject.petmeeting.post.service.PostService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
+import static sideproject.petmeeting.post.domain.Category.RECOMMEND;
+
+@SpringBootTest(properties = {
+        "s3.upload.max-attempts=3",
+        "s3.upload.retry-backoff=10",
+        "s3.upload.timeout=300"
+})
+@ActiveProfiles("test")
+class S3UploaderTest {
+
+    @TestConfiguration
+    static class FakeS3Config {
+        @Bean
+        @Primary
+        public FakeAmazonS3Client fakeAmazonS3Client() {
+            return new FakeAmazonS3Client();
+        }
+    }
+
+    @Autowired
+    S3Uploader s3Uploader;
+    @Autowired
+    FakeAmazonS3Client fakeAmazonS3Client;
+    @Autowired
+    PostService postService;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void setup() {
+        fakeAmazonS3Client.reset(0, 0);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 실패하면 재시도 후 성공")
+    void uploadRetry() throws Exception {
+        // Given
+        fakeAmazonS3Client.reset(2, 0);
+
+        // When
+        String imageUrl = s3Uploader.upload(image(), "post/image");
+
+        // Then
+        assertThat(fakeAmazonS3Client.getPutCount()).isEqualTo(3);
+        assertThat(fakeAmazonS3Client.getPutKeys()).hasSize(1);
+        assertThat(imageUrl).endsWith(fakeAmazonS3Client.getPutKeys().get(0));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 모든 시도가 실패하면 FILE_UPLOAD_FAIL")
+    void uploadFail() {
+        // Given
+        fakeAmazonS3Client.reset(Integer.MAX_VALUE, 0);
+
+        // When
+        BusinessException exception = assertThrows(BusinessException.class, () -> s3Uploader.upload(image(), "post/image"));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.FILE_UPLOAD_FAIL);
+        assertThat(fakeAmazonS3Client.getPutCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 시간 초과 시 업로드를 중단하고 재시도하지 않음")
+    void uploadTimeout() throws Exception {
+        // Given - 첫 번째 시도가 시간 초과(300ms) 뒤에 실패
+        fakeAmazonS3Client.reset(Integer.MAX_VALUE, 1000);
+
+        // When
+        long start = System.currentTimeMillis();
+        BusinessException exception = assertThrows(BusinessException.class, () -> s3Uploader.upload(image(), "post/image"));
+        long elapsed = System.currentTimeMillis() - start;
+        Thread.sleep(1500);
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.FILE_UPLOAD_FAIL);
+        assertThat(elapsed).isLessThan(1000);
+        assertThat(fakeAmazonS3Client.getPutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 업로드 후 DB 저장에 실패하면 업로드한 이미지 삭제")
+    void deleteImageWhenSaveFails() {
+        // Given - 저장되지 않은 회원
+        Member unsavedMember = Member.builder()
+                .nickname("s3Uploader@Username.com")
+                .password("password")
+                .email("s3Uploader@Username.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build();
+        PostRequestDto postRequestDto = PostRequestDto.builder()
+                .category(RECOMMEND)
+                .title("제목입니다.")
+                .content("내용입니다.")
+                .build();
+
+        // When
+        assertThrows(RuntimeException.class, () -> postService.createPost(postRequestDto, image(), unsavedMember));
+
+        // Then
+        assertThat(fakeAmazonS3Client.getPutKeys()).hasSize(1);
+        assertThat(fakeAmazonS3Client.getDeletedKeys()).containsExactlyElementsOf(fakeAmazonS3Client.getPutKeys());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 새 이미지를 업로드한 뒤 수정이 커밋되면 이전 이미지 삭제")
+    void deletePreviousImageAfterUpdate() throws Exception {
+        // Given
+        Member member = memberRepository.save(member("s3Update@Username.com"));
+        PostResponseDto post = postService.createPost(postRequestDto(), image(), member);
+        String previousKey = fakeAmazonS3Client.getPutKeys().get(0);
+
+        try {
+            // When
+            PostResponseDto updated = postService.updatePost(post.getId(), postRequestDto(), image(), member);
+
+            // Then
+            assertThat(fakeAmazonS3Client.getPutKeys()).hasSize(2);
+            assertThat(fakeAmazonS3Client.getDeletedKeys()).containsExactly(previousKey);
+            assertThat(updated.getImageUrl()).contains(fakeAmazonS3Client.getPutKeys().get(1));
+        } finally {
+            postRepository.deleteById(post.getId());
+            memberRepository.delete(member);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 수정에 실패하면 새 이미지만 삭제하고 이전 이미지 유지")
+    void deleteNewImageWhenUpdateFails() throws Exception {
+        // Given - 수정 권한이 없는 회원
+        Member member = memberRepository.save(member("s3UpdateOwner@Username.com"));
+        Member otherMember = memberRepository.save(member("s3UpdateOther@Username.com"));
+        PostResponseDto post = postService.createPost(postRequestDto(), image(), member);
+
+        try {
+            // When
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> postService.updatePost(post.getId(), postRequestDto(), image(), otherMember));
+
+            // Then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+            assertThat(fakeAmazonS3Client.getPutKeys()).hasSize(2);
+            assertThat(fakeAmazonS3Client.getDeletedKeys()).containsExactly(fakeAmazonS3Client.getPutKeys().get(1));
+        } finally {
+            postRepository.deleteById(post.getId());
+            memberRepository.delete(otherMember);
+            memberRepository.delete(member);
+        }
+    }
+
+    private Member member(String email) {
+        return Member.builder()
+                .nickname(email)
+                .password("password")
+                .email(email)
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build();
+    }
+
+    private PostRequestDto postRequestDto() {
+        return PostRequestDto.builder()
+                .category(RECOMMEND)
+                .title("제목입니다.")
+                .content("내용입니다.")
+                .build();
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile(
+                "image",
+                "memberImage.jpeg",
+                "image/jpeg",
+                "<<jpeg data>>".getBytes());
+    }
+}
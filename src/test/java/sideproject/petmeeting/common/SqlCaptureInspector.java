@@ -0,0 +1,35 @@
+package sideproject.petmeeting.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 - Hibernate 가 생성한 SQL 을 현재 스레드 기준으로 수집(실행 계획 확인용)
+ * application-test.properties 의 hibernate.session_factory.statement_inspector 로 등록
+ */
+public class SqlCaptureInspector implements StatementInspector {
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    // 현재 스레드에서 실행되는 SQL 수집 시작
+    public static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    // 수집 종료 후 수집한 SQL 반환
+    public static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured == null ? List.of() : captured;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,85 @@
+package sideproject.petmeeting.common.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataMigrationRunnerTest {
+    private static final String NAME = "test-migration";
+
+    @Autowired
+    DataMigrationRunner dataMigrationRunner;
+    @Autowired
+    DataMigrationRepository dataMigrationRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void after() {
+        dataMigrationRepository.findById(NAME).ifPresent(dataMigrationRepository::delete);
+        stringRedisTemplate.delete(DataMigrationRunner.LOCK_KEY + NAME);
+    }
+
+    @Test
+    @DisplayName("데이터 보정 - 완료한 작업은 다시 실행하지 않음")
+    void runOnce() {
+        // Given
+        AtomicInteger count = new AtomicInteger();
+
+        // When
+        boolean first = dataMigrationRunner.runOnce(NAME, count::incrementAndGet);
+        boolean second = dataMigrationRunner.runOnce(NAME, count::incrementAndGet);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(count.get()).isEqualTo(1);
+        assertThat(dataMigrationRepository.existsById(NAME)).isTrue();
+        assertThat(stringRedisTemplate.hasKey(DataMigrationRunner.LOCK_KEY + NAME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("데이터 보정 - 다른 서버가 실행 중이면 실행하지 않음")
+    void runOnceLocked() {
+        // Given - 다른 서버가 락을 가진 상태
+        stringRedisTemplate.opsForValue().set(DataMigrationRunner.LOCK_KEY + NAME, "other-server");
+        AtomicInteger count = new AtomicInteger();
+
+        // When
+        boolean executed = dataMigrationRunner.runOnce(NAME, count::incrementAndGet);
+
+        // Then
+        assertThat(executed).isFalse();
+        assertThat(count.get()).isZero();
+        assertThat(dataMigrationRepository.existsById(NAME)).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get(DataMigrationRunner.LOCK_KEY + NAME)).isEqualTo("other-server");
+    }
+
+    @Test
+    @DisplayName("데이터 보정 - 실패한 작업은 기록하지 않아 다시 실행")
+    void runOnceFailed() {
+        // Given
+        AtomicInteger count = new AtomicInteger();
+
+        // When
+        assertThatThrownBy(() -> dataMigrationRunner.runOnce(NAME, () -> {
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+        boolean retried = dataMigrationRunner.runOnce(NAME, count::incrementAndGet);
+
+        // Then
+        assertThat(retried).isTrue();
+        assertThat(count.get()).isEqualTo(1);
+    }
+}
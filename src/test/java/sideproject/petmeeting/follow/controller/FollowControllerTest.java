@@ -1,12 +1,14 @@
 package sideproject.petmeeting.follow.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -16,11 +18,11 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import sideproject.petmeeting.follow.domain.Follow;
 import sideproject.petmeeting.follow.domain.dto.FollowRequestDto;
 import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.follow.service.FollowService;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.dto.request.LoginRequestDto;
 import sideproject.petmeeting.member.repository.MemberRepository;
@@ -37,11 +39,11 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
 
 @SpringBootTest
-@Transactional
 @ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -56,7 +58,11 @@ class FollowControllerTest {
     @Autowired
     FollowRepository followRepository;
     @Autowired
+    FollowService followService;
+    @Autowired
     private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
 
     @BeforeEach
     void setting(WebApplicationContext webApplicationContext,
@@ -87,6 +93,19 @@ class FollowControllerTest {
                 .alwaysDo(print())
                 .build();
     }
+
+    // 팔로우 저장은 별도 트랜잭션에서 커밋되므로 테스트 트랜잭션 대신 직접 정리
+    @AfterEach
+    public void after() {
+        for (Member member : memberRepository.findAll()) {
+            stringRedisTemplate.delete("follow:following:" + member.getId());
+            stringRedisTemplate.delete("follow:version:" + member.getId());
+            stringRedisTemplate.delete("timeline:" + member.getId());
+        }
+        followRepository.deleteAllInBatch();
+        refreshTokenRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
     @Test
     void follow() throws Exception {
         Member lisa = memberRepository.findByEmail("lisa@test.com").get();
@@ -215,6 +234,76 @@ class FollowControllerTest {
                         )));
     }
 
+    @Test
+    void getFollowStatus() throws Exception {
+        Member lisa = memberRepository.findByEmail("lisa@test.com").get();
+        Member tommy = memberRepository.findByEmail("tommy@test.com").get();
+        followService.follow(new FollowRequestDto(lisa.getId()), tommy);
+        followService.follow(new FollowRequestDto(tommy.getId()), lisa);
+
+        this.mockMvc.perform(get("/api/follow/" + lisa.getId() + "/status")
+                        .header("Authorization", getAccessToken()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.following").value(true))
+                .andExpect(jsonPath("data.followed").value(true))
+                .andExpect(jsonPath("data.mutual").value(true))
+                .andExpect(jsonPath("data.followingCount").value(1))
+                .andExpect(jsonPath("data.followerCount").value(1))
+                .andDo(document("get follow status",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("access token")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").description("status of action"),
+                                fieldWithPath("message").description("message of action"),
+                                fieldWithPath("data.memberId").description("id of member"),
+                                fieldWithPath("data.following").description("whether I follow the member"),
+                                fieldWithPath("data.followed").description("whether the member follows me"),
+                                fieldWithPath("data.mutual").description("whether we follow each other"),
+                                fieldWithPath("data.followingCount").description("following count of member"),
+                                fieldWithPath("data.followerCount").description("follower count of member"),
+                                fieldWithPath("data.links[0].rel").description("relation"),
+                                fieldWithPath("data.links[0].href").description("url of action")
+                        )));
+    }
+
+    @Test
+    void follow_Idempotent() throws Exception {
+        Member lisa = memberRepository.findByEmail("lisa@test.com").get();
+        FollowRequestDto followRequestDto = new FollowRequestDto(lisa.getId());
+        String accessToken = getAccessToken();
+
+        for (int i = 0; i < 2; i++) {
+            this.mockMvc.perform(post("/api/follow")
+                            .header("Authorization", accessToken)
+                            .contentType(APPLICATION_JSON)
+                            .accept(HAL_JSON)
+                            .content(objectMapper.writeValueAsString(followRequestDto)))
+                    .andExpect(status().isCreated());
+        }
+
+        assertThat(followRepository.findAll().size()).isEqualTo(1);
+        assertThat(memberRepository.findById(lisa.getId()).get().getFollowerCount()).isEqualTo(1);
+        assertThat(memberRepository.findByEmail("tommy@test.com").get().getFollowingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void follow_Self() throws Exception {
+        Member tommy = memberRepository.findByEmail("tommy@test.com").get();
+        this.mockMvc.perform(post("/api/follow")
+                        .header("Authorization", getAccessToken())
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON)
+                        .content(objectMapper.writeValueAsString(new FollowRequestDto(tommy.getId()))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(followRepository.findAll().size()).isEqualTo(0);
+    }
+
     @Test
     void follow_NotFound() throws Exception{
         Member lisa = memberRepository.findByEmail("lisa@test.com").get();
@@ -0,0 +1,70 @@
+package sideproject.petmeeting.follow.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import sideproject.petmeeting.follow.domain.Follow;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FollowCountInitializerTest {
+
+    @Autowired
+    FollowCountInitializer followCountInitializer;
+    @Autowired
+    FollowRepository followRepository;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @AfterEach
+    void after() {
+        followRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("팔로우 데이터 보정 - 팔로워/팔로잉 수를 팔로우 테이블 기준으로 다시 계산")
+    void backfill() {
+        // Given - 팔로워/팔로잉 수 컬럼 추가 전에 저장된 팔로우
+        Member tommy = memberRepository.save(buildMember("Tommy"));
+        Member lisa = memberRepository.save(buildMember("Lisa"));
+        Member jenny = memberRepository.save(buildMember("Jenny"));
+        followRepository.save(Follow.builder().follower(tommy).following(lisa).build());
+        followRepository.save(Follow.builder().follower(jenny).following(lisa).build());
+        followRepository.save(Follow.builder().follower(lisa).following(tommy).build());
+
+        // When
+        followCountInitializer.backfill();
+
+        // Then
+        Member backfilledTommy = memberRepository.findById(tommy.getId()).orElseThrow();
+        Member backfilledLisa = memberRepository.findById(lisa.getId()).orElseThrow();
+        Member backfilledJenny = memberRepository.findById(jenny.getId()).orElseThrow();
+        assertThat(backfilledTommy.getFollowerCount()).isEqualTo(1);
+        assertThat(backfilledTommy.getFollowingCount()).isEqualTo(1);
+        assertThat(backfilledLisa.getFollowerCount()).isEqualTo(2);
+        assertThat(backfilledLisa.getFollowingCount()).isEqualTo(1);
+        assertThat(backfilledJenny.getFollowerCount()).isEqualTo(0);
+        assertThat(backfilledJenny.getFollowingCount()).isEqualTo(1);
+        assertThat(followRepository.findDuplicateIds()).isEmpty();
+    }
+
+    private Member buildMember(String nickname) {
+        return Member.builder()
+                .nickname(nickname)
+                .password("password")
+                .email(nickname + "@test.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package sideproject.petmeeting.follow.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import sideproject.petmeeting.follow.domain.Follow;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FollowGraphCacheTest {
+
+    @Autowired
+    FollowGraphCache followGraphCache;
+    @Autowired
+    FollowRepository followRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    Member tommy;
+    Member lisa;
+    Member jenny;
+
+    @BeforeEach
+    void setup() {
+        tommy = memberRepository.save(buildMember("Tommy"));
+        lisa = memberRepository.save(buildMember("Lisa"));
+        jenny = memberRepository.save(buildMember("Jenny"));
+    }
+
+    @AfterEach
+    void after() {
+        for (Member member : new Member[]{tommy, lisa, jenny}) {
+            stringRedisTemplate.delete("follow:following:" + member.getId());
+            stringRedisTemplate.delete("follow:version:" + member.getId());
+        }
+        followRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("팔로우 캐시 적재 - 적재 중 팔로우가 반영되면 적재한 값으로 교체하지 않고 DB 로 응답")
+    void loadDiscardedWhenFollowChanges() {
+        // Given - 팔로우 관계 조회 직후 다른 요청의 팔로우가 커밋된 상황
+        FollowRepository racingRepository = (FollowRepository) Proxy.newProxyInstance(
+                FollowRepository.class.getClassLoader(), new Class[]{FollowRepository.class},
+                (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(followRepository, args);
+                        if (method.getName().equals("findFollowingEdges")) {
+                            followRepository.save(Follow.builder().follower(tommy).following(lisa).build());
+                            followGraphCache.follow(tommy.getId(), lisa.getId(), 0L);
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        FollowGraphCache racingCache = new FollowGraphCache(stringRedisTemplate, racingRepository);
+        ReflectionTestUtils.setField(racingCache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(racingCache, "maxSize", 5000);
+
+        // When
+        boolean following = racingCache.isFollowing(tommy.getId(), lisa.getId());
+
+        // Then - 팔로우 전 목록은 캐시되지 않음
+        assertThat(following).isTrue();
+        assertThat(stringRedisTemplate.hasKey("follow:following:" + tommy.getId())).isFalse();
+        assertThat(followGraphCache.isFollowing(tommy.getId(), lisa.getId())).isTrue();
+        assertThat(stringRedisTemplate.opsForZSet().score("follow:following:" + tommy.getId(), String.valueOf(lisa.getId())))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("팔로우 캐시 적재 - 팔로우 수가 최대 크기를 넘으면 캐시하지 않고 DB 로 확인")
+    void largeFollowingFallsBackToDatabase() {
+        // Given
+        followRepository.save(Follow.builder().follower(tommy).following(lisa).build());
+        followRepository.save(Follow.builder().follower(tommy).following(jenny).build());
+        int maxSize = (int) ReflectionTestUtils.getField(followGraphCache, "maxSize");
+        ReflectionTestUtils.setField(followGraphCache, "maxSize", 1);
+
+        try {
+            // When & Then
+            assertThat(followGraphCache.isFollowing(tommy.getId(), lisa.getId())).isTrue();
+            assertThat(followGraphCache.isFollowing(tommy.getId(), jenny.getId())).isTrue();
+            assertThat(followGraphCache.isFollowing(lisa.getId(), tommy.getId())).isFalse();
+            assertThat(stringRedisTemplate.opsForZSet().range("follow:following:" + tommy.getId(), 0, -1))
+                    .containsExactlyInAnyOrder("-", "+");
+        } finally {
+            ReflectionTestUtils.setField(followGraphCache, "maxSize", maxSize);
+        }
+    }
+
+    private static Member buildMember(String nickname) {
+        return Member.builder()
+                .nickname(nickname)
+                .password("test")
+                .email(nickname.toLowerCase() + "@graph.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build();
+    }
+}
@@ -4,9 +4,18 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import sideproject.petmeeting.chat.domain.ChatMember;
+import sideproject.petmeeting.chat.domain.ChatRoom;
+import sideproject.petmeeting.chat.repository.ChatMemberRepository;
+import sideproject.petmeeting.chat.repository.ChatRoomRepository;
+import sideproject.petmeeting.chat.service.ChatMemberInitializer;
+import sideproject.petmeeting.common.SqlCaptureInspector;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.meeting.domain.Attendance;
 import sideproject.petmeeting.meeting.domain.Meeting;
 import sideproject.petmeeting.meeting.dto.MeetingPageResponseDto;
 import sideproject.petmeeting.meeting.dto.MeetingRequestDto;
@@ -19,6 +28,13 @@ import sideproject.petmeeting.member.repository.MemberRepository;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
@@ -37,6 +53,16 @@ class MeetingServiceTest {
     private AttendanceRepository attendanceRepository;
     @Autowired
     MeetingService meetingService;
+    @Autowired
+    MeetingCoordinateInitializer meetingCoordinateInitializer;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+    @Autowired
+    ChatMemberRepository chatMemberRepository;
+    @Autowired
+    ChatMemberInitializer chatMemberInitializer;
     public static final String USERNAME = "meetingService@Username.com";
     public static final String PASSWORD = "password";
 
@@ -266,4 +292,321 @@ class MeetingServiceTest {
         // Then
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    @DisplayName("내 주변 모임 조회 테스트 - 거리순, 커서 방식")
+    public void getNearbyMeeting() {
+        // Given - 기준 좌표에서 북쪽으로 약 100m 간격의 모임 16개, 반경 밖의 모임 1개
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        for (int i = 15; i >= 0; i--) {
+            meetingRepository.save(buildMeeting(savedMember, "nearby meeting " + i, latitude + i * 0.0009, longitude));
+        }
+        meetingRepository.save(buildMeeting(savedMember, "far meeting", latitude + 0.1, longitude));
+
+        // When
+        MeetingPageResponseDto firstPage = meetingService.getNearbyMeeting(latitude, longitude, 3000, null);
+        MeetingPageResponseDto secondPage = meetingService.getNearbyMeeting(latitude, longitude, 3000, firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getMeetingList().size()).isEqualTo(15);
+        assertThat(firstPage.getMeetingList().get(0).getTitle()).isEqualTo("nearby meeting 0");
+        assertThat(firstPage.getMeetingList().get(1).getDistance()).isGreaterThan(firstPage.getMeetingList().get(0).getDistance());
+        assertThat(firstPage.isHasNextPage()).isTrue();
+        assertThat(secondPage.getMeetingList().size()).isEqualTo(1);
+        assertThat(secondPage.getMeetingList().get(0).getTitle()).isEqualTo("nearby meeting 15");
+        assertThat(secondPage.isHasNextPage()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("내 주변 모임 조회 테스트 - 같은 좌표의 모임이 페이지 경계에 걸쳐도 중복, 누락 없이 조회")
+    public void getNearbyMeetingSameLocation() {
+        // Given - 같은 좌표의 모임 17개
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+        for (int i = 0; i < 17; i++) {
+            meetingRepository.save(buildMeeting(savedMember, "same place meeting " + i, latitude + 0.001, longitude + 0.001));
+        }
+
+        // When
+        MeetingPageResponseDto firstPage = meetingService.getNearbyMeeting(latitude, longitude, 3000, null);
+        MeetingPageResponseDto secondPage = meetingService.getNearbyMeeting(latitude, longitude, 3000, firstPage.getNextCursor());
+
+        // Then
+        List<Long> meetingIds = new ArrayList<>();
+        firstPage.getMeetingList().forEach(meeting -> meetingIds.add(meeting.getId()));
+        secondPage.getMeetingList().forEach(meeting -> meetingIds.add(meeting.getId()));
+        assertThat(firstPage.getMeetingList().size()).isEqualTo(15);
+        assertThat(secondPage.getMeetingList().size()).isEqualTo(2);
+        assertThat(meetingIds.stream().distinct().count()).isEqualTo(17L);
+        assertThat(secondPage.isHasNextPage()).isFalse();
+    }
+
+    @Test
+    @DisplayName("거리 검색 좌표 보정 - 좌표가 없는 기존 모임의 latitude, longitude 채움")
+    public void backfillCoordinate() {
+        // Given - 좌표 컬럼 추가 전에 저장된 모임(null), 좌표가 숫자가 아닌 모임
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Meeting oldMeeting = meetingRepository.save(buildMeeting(savedMember, "old meeting", 37.5665, 126.9780));
+        Meeting invalidMeeting = meetingRepository.save(buildMeeting(savedMember, "invalid meeting", "dog",
+                LocalDateTime.now().plusDays(1), 5, 0));
+        jdbcTemplate.update("update meeting set latitude = null, longitude = null where id = ?", oldMeeting.getId());
+
+        // When
+        meetingCoordinateInitializer.backfill();
+
+        // Then
+        Meeting backfilledMeeting = meetingRepository.findById(oldMeeting.getId()).orElseThrow();
+        assertThat(backfilledMeeting.getLatitude()).isEqualTo(37.5665);
+        assertThat(backfilledMeeting.getLongitude()).isEqualTo(126.9780);
+        assertThat(meetingRepository.findById(invalidMeeting.getId()).orElseThrow().getLatitude()).isNull();
+        assertThat(meetingService.getNearbyMeeting(37.5665, 126.9780, 100, null).getMeetingList().size()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("모임 조건 조회 테스트 - 반려 동물 종, 기간, 모집 중 여부")
+    public void getFilteredMeeting() {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        meetingRepository.save(buildMeeting(savedMember, "later dog meeting", "dog", now.plusDays(2), 5, 1));
+        meetingRepository.save(buildMeeting(savedMember, "sooner dog meeting", "dog", now.plusDays(1), 5, 1));
+        meetingRepository.save(buildMeeting(savedMember, "full dog meeting", "dog", now.plusDays(1), 2, 2));
+        meetingRepository.save(buildMeeting(savedMember, "cat meeting", "cat", now.plusDays(1), 5, 1));
+        meetingRepository.save(buildMeeting(savedMember, "next week dog meeting", "dog", now.plusDays(7), 5, 1));
+
+        // When
+        MeetingPageResponseDto meetingPage = meetingService.getFilteredMeeting(0, "dog", null, now.plusDays(3), true);
+
+        // Then
+        assertThat(meetingPage.getMeetingList().size()).isEqualTo(2);
+        assertThat(meetingPage.getMeetingList().get(0).getTitle()).isEqualTo("sooner dog meeting");
+        assertThat(meetingPage.getMeetingList().get(1).getTitle()).isEqualTo("later dog meeting");
+    }
+
+    @Test
+    @DisplayName("모임 조건 조회 테스트 - 조건에 맞는 인덱스 사용")
+    public void getFilteredMeetingQueryPlan() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().plusMinutes(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(7);
+
+        // When - Hibernate 가 실제로 생성한 조회 SQL 의 실행 계획
+        String speciesPlan = explain(captureMeetingQuery(() -> meetingService.getFilteredMeeting(0, "dog", from, to, true)),
+                "dog", from, to, true);
+        String timePlan = explain(captureMeetingQuery(() -> meetingService.getFilteredMeeting(0, null, from, to, true)),
+                from, to, true);
+
+        // Then
+        assertThat(speciesPlan.toUpperCase()).contains("IDX_MEETING_SPECIES_TIME");
+        assertThat(timePlan.toUpperCase()).contains("IDX_MEETING_TIME");
+    }
+
+    @Test
+    @DisplayName("모임 참석 테스트 - 동시에 참석해도 모집 인원을 넘지 않음")
+    public void addAttendanceConcurrently() throws InterruptedException {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("popular meeting")
+                .content("meeting content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .address("address")
+                .coordinateX("coordinateX")
+                .coordinateY("coordinateY")
+                .placeName("placeName")
+                .time(LocalDateTime.now().plusDays((1)))
+                .recruitNum(10)
+                .species("species")
+                .build());
+
+        // 모집 인원 10명에 1,000명이 동시에 참석 요청
+        int memberCount = 1000;
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(Member.builder()
+                    .nickname("attendee" + i)
+                    .password(PASSWORD)
+                    .email("attendee" + i + "@test.com")
+                    .image("test-image")
+                    .userRole(ROLE_MEMBER)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(memberCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger fullCount = new AtomicInteger();
+        for (Member member : members) {
+            executorService.submit(() -> {
+                try {
+                    meetingService.addAttendance(meeting.getId(), member);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 모집 인원 마감
+                    fullCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then - 모든 요청이 끝났고, 나머지 요청은 모두 마감으로 거절
+        assertThat(completed).isTrue();
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(fullCount.get()).isEqualTo(memberCount - 10);
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getCurrentNum()).isEqualTo(10);
+        assertThat(attendanceRepository.findMemberFetchJoin(meeting.getId()).size()).isEqualTo(10);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("모임 참석/참석 취소 테스트 - 모임 채팅방에 가입/탈퇴")
+    public void attendanceChatMember() {
+        // Given - 채팅방이 있는 모임
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Meeting meeting = meetingRepository.save(chatMeeting(savedMember));
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting)
+                .roomId("attendance-chat-room")
+                .roomName("chat room")
+                .build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom).member(savedMember).build());
+        Member attendee = memberRepository.save(Member.builder()
+                .nickname("attendee")
+                .password(PASSWORD)
+                .email("attendee@test.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build());
+
+        // When, Then - 참석하면 채팅방 참여자로 조회
+        meetingService.addAttendance(meeting.getId(), attendee);
+        assertThat(chatMemberRepository.existsByChatRoomRoomIdAndMemberId(chatRoom.getRoomId(), attendee.getId())).isTrue();
+        assertThat(chatMemberRepository.findRoomIdsByMemberId(attendee.getId()).contains(chatRoom.getRoomId())).isTrue();
+
+        // When, Then - 참석을 취소하면 채팅방에서 탈퇴
+        meetingService.deleteAttendance(meeting.getId(), attendee);
+        assertThat(chatMemberRepository.existsByChatRoomRoomIdAndMemberId(chatRoom.getRoomId(), attendee.getId())).isFalse();
+        assertThat(chatMemberRepository.existsByChatRoomRoomIdAndMemberId(chatRoom.getRoomId(), savedMember.getId())).isTrue();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("채팅방 참여자 보정 - 채팅방 참여자가 아닌 모임 참석자를 채팅방에 가입")
+    public void backfillChatMember() {
+        // Given - 모임 참석 시 채팅방에 가입하기 전에 참석한 회원
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Meeting meeting = meetingRepository.save(chatMeeting(savedMember));
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .meeting(meeting)
+                .roomId("backfill-chat-room")
+                .roomName("chat room")
+                .build());
+        chatMemberRepository.save(ChatMember.builder().chatRoom(chatRoom).member(savedMember).build());
+        attendanceRepository.save(Attendance.builder().meeting(meeting).member(savedMember).build());
+        Member attendee = memberRepository.save(Member.builder()
+                .nickname("attendee")
+                .password(PASSWORD)
+                .email("attendee@test.com")
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build());
+        attendanceRepository.save(Attendance.builder().meeting(meeting).member(attendee).build());
+
+        // When
+        chatMemberInitializer.backfill();
+
+        // Then - 이미 참여 중인 회원은 중복 가입하지 않음
+        assertThat(chatMemberRepository.existsByChatRoomRoomIdAndMemberId(chatRoom.getRoomId(), attendee.getId())).isTrue();
+        assertThat(chatMemberRepository.findRoomIdsByMemberId(savedMember.getId()).size()).isEqualTo(1);
+    }
+
+    private Meeting chatMeeting(Member member) {
+        return Meeting.builder()
+                .title("chat meeting")
+                .content("meeting content")
+                .member(member)
+                .imageUrl("imageUrl")
+                .address("address")
+                .coordinateX("coordinateX")
+                .coordinateY("coordinateY")
+                .placeName("placeName")
+                .time(LocalDateTime.now().plusDays((1)))
+                .recruitNum(5)
+                .currentNum(1)
+                .species("species")
+                .build();
+    }
+
+    // 실행 중 Hibernate 가 생성한 모임 목록 조회 SQL(member fetch join 쿼리)
+    private static String captureMeetingQuery(Runnable runnable) {
+        SqlCaptureInspector.start();
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            SqlCaptureInspector.stop();
+            throw e;
+        }
+        List<String> statements = SqlCaptureInspector.stop();
+        return statements.stream()
+                .filter(sql -> sql.toLowerCase().contains("from meeting") && sql.toLowerCase().contains(" join "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("모임 조회 SQL 이 실행되지 않았습니다 : " + statements));
+    }
+
+    // 조건 파라미터를 바인딩한 실행 계획, 나머지 파라미터(limit)는 페이지 크기로 바인딩
+    private String explain(String sql, Object... conditions) {
+        int parameterCount = (int) sql.chars().filter(ch -> ch == '?').count();
+        Object[] parameters = new Object[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            parameters[i] = i < conditions.length ? conditions[i] : 15;
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static Meeting buildMeeting(Member member, String title, String species, LocalDateTime time, int recruitNum, int currentNum) {
+        return Meeting.builder()
+                .title(title)
+                .content("meeting content")
+                .member(member)
+                .imageUrl("imageUrl")
+                .address("address")
+                .coordinateX("coordinateX")
+                .coordinateY("coordinateY")
+                .placeName("placeName")
+                .time(time)
+                .recruitNum(recruitNum)
+                .currentNum(currentNum)
+                .species(species)
+                .build();
+    }
+
+    private static Meeting buildMeeting(Member member, String title, double latitude, double longitude) {
+        return Meeting.builder()
+                .title(title)
+                .content("meeting content")
+                .member(member)
+                .imageUrl("imageUrl")
+                .address("address")
+                .coordinateX(String.valueOf(longitude))
+                .coordinateY(String.valueOf(latitude))
+                .placeName("placeName")
+                .time(LocalDateTime.now().plusDays((1)))
+                .recruitNum(5)
+                .species("species")
+                .build();
+    }
+}
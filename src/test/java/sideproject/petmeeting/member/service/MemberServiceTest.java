@@ -5,18 +5,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.dto.request.MemberDto;
+import sideproject.petmeeting.member.dto.request.MemberUpdateRequest;
 import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.security.UserDetailsServiceImpl;
 
 import java.io.IOException;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 @SpringBootTest
@@ -34,6 +42,12 @@ class MemberServiceTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
     @Test
     @DisplayName("Member 가 정상적으로 저장이 되는 지 확인 하는 테스트")
     public void join() throws IOException {
@@ -52,4 +66,97 @@ class MemberServiceTest {
                 () -> assertThat(passwordEncoder.matches(member.getPassword(), findMember.get().getPassword())).isTrue()
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("인증 정보 캐시 - 캐시 삭제 전까지 같은 인증 정보를 반환하는 지 확인 하는 테스트")
+    public void principalCache() throws IOException {
+        // Given
+        MemberDto member = MemberDto.builder()
+                .password("test")
+                .email("principal@test.com")
+                .build();
+        memberservice.join(member, null);
+
+        // 테스트 프로필은 캐시를 사용하지 않으므로 TTL 지정
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 60L);
+
+        // When
+        UserDetails firstPrincipal;
+        UserDetails cachedPrincipal;
+        UserDetails reloadedPrincipal;
+        try {
+            firstPrincipal = userDetailsService.loadUserByUsername("principal@test.com");
+            cachedPrincipal = userDetailsService.loadUserByUsername("principal@test.com");
+            userDetailsService.evictPrincipal("principal@test.com");
+            reloadedPrincipal = userDetailsService.loadUserByUsername("principal@test.com");
+        } finally {
+            userDetailsService.evictPrincipal("principal@test.com");
+            ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 0L);
+        }
+
+        // Then
+        assertAll(
+                () -> assertThat(cachedPrincipal).isSameAs(firstPrincipal),
+                () -> assertThat(reloadedPrincipal).isNotSameAs(firstPrincipal)
+        );
+    }
+
+    @Test
+    @DisplayName("인증 정보 캐시 - email 수정 시 수정 전 email 의 인증 정보가 남지 않는 지 확인 하는 테스트")
+    public void principalCacheEvictOnUpdate() throws IOException {
+        // Given
+        Member savedMember = memberservice.join(MemberDto.builder()
+                .password("test")
+                .email("before@test.com")
+                .build(), null);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 60L);
+
+        try {
+            userDetailsService.loadUserByUsername("before@test.com");
+
+            // When
+            memberservice.update(MemberUpdateRequest.builder()
+                    .email("after@test.com")
+                    .password("test")
+                    .location("seoul")
+                    .build(), savedMember, new MockHttpServletResponse());
+
+            // Then
+            assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("before@test.com"));
+            assertThat(userDetailsService.loadUserByUsername("after@test.com").getUsername()).isEqualTo("after@test.com");
+        } finally {
+            userDetailsService.evictPrincipal("before@test.com");
+            userDetailsService.evictPrincipal("after@test.com");
+            ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 0L);
+        }
+    }
+
+    @Test
+    @DisplayName("인증 정보 캐시 - 다른 서버에서 발행한 삭제 메세지로 캐시가 삭제되는 지 확인 하는 테스트")
+    public void principalCacheRemoteEviction() throws Exception {
+        // Given
+        memberservice.join(MemberDto.builder()
+                .password("test")
+                .email("remote@test.com")
+                .build(), null);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 60L);
+
+        try {
+            UserDetails cachedPrincipal = userDetailsService.loadUserByUsername("remote@test.com");
+
+            // When - 다른 서버의 evictPrincipal 과 같은 메세지 발행
+            stringRedisTemplate.convertAndSend("principal:evict", "remote@test.com");
+
+            // Then
+            UserDetails reloadedPrincipal = cachedPrincipal;
+            for (int i = 0; i < 50 && reloadedPrincipal == cachedPrincipal; i++) {
+                Thread.sleep(100);
+                reloadedPrincipal = userDetailsService.loadUserByUsername("remote@test.com");
+            }
+            assertThat(reloadedPrincipal).isNotSameAs(cachedPrincipal);
+        } finally {
+            userDetailsService.evictPrincipal("remote@test.com");
+            ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 0L);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,9 +46,12 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.mo
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
 import static sideproject.petmeeting.post.domain.Category.*;
@@ -164,6 +168,8 @@ class MyPageControllerTest {
                                         fieldWithPath("data.email").description("email of member"),
                                         fieldWithPath("data.location").description("location of member"),
                                         fieldWithPath("data.image").description("image of member"),
+                                        fieldWithPath("data.followerCount").description("follower count of member"),
+                                        fieldWithPath("data.followingCount").description("following count of member"),
                                         fieldWithPath("data.pet[]").description("image of member"),
                                         fieldWithPath("data.links[0].rel").description("relation"),
                                         fieldWithPath("data.links[0].href").description("url of action")
@@ -231,6 +237,8 @@ class MyPageControllerTest {
                                         fieldWithPath("data.nickname").description("nickname of member"),
                                         fieldWithPath("data.location").description("location of member"),
                                         fieldWithPath("data.image").description("image of member"),
+                                        fieldWithPath("data.followerCount").description("follower count of member"),
+                                        fieldWithPath("data.followingCount").description("following count of member"),
                                         fieldWithPath("data.pet[]").description("id of pet"),
                                         fieldWithPath("data.pet[].id").description("id of pet"),
                                         fieldWithPath("data.pet[].name").description("name of pet"),
@@ -318,12 +326,14 @@ class MyPageControllerTest {
                                         fieldWithPath("data.myPostList[].imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.myPostList[].numHeart").description("numHeart of post"),
                                         fieldWithPath("data.myPostList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.myPostList[].commentCount").description("number of comments of post"),
                                         fieldWithPath("data.myPostList[].authorId").description("authorId of post"),
                                         fieldWithPath("data.myPostList[].authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.myPostList[].authorLocation").description("authorLocation of post"),
                                         fieldWithPath("data.myPostList[].authorImageUrl").description("authorImageUrl of post"),
                                         fieldWithPath("data.myPostList[].createdAt").description("createdAt of post"),
                                         fieldWithPath("data.myPostList[].modifiedAt").description("modifiedAt of post"),
+                                        fieldWithPath("data.hasNext").description("whether next page exists"),
                                         fieldWithPath("data.links[0].rel").description("relation"),
                                         fieldWithPath("data.links[0].href").description("url of action")
                                 )
@@ -333,6 +343,51 @@ class MyPageControllerTest {
         log.info("내가 작성한 게시글 조회 종료");
     }
 
+    @Test
+    @Transactional
+    @DisplayName("내가 작성한 게시글 조회 - 다음 페이지가 있으면 next 링크 추가")
+    public void getMyPostsNextPage() throws Exception {
+        // Given - 한 페이지(20개)보다 1개 많은 게시글
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        for (int i = 0; i < 21; i++) {
+            postRepository.save(Post.builder()
+                    .category(RECOMMEND)
+                    .title("post title " + i)
+                    .content("post content " + i)
+                    .member(savedMember)
+                    .imageUrl("imageUrl")
+                    .numHeart(0)
+                    .viewCnt(0)
+                    .build());
+        }
+        String accessToken = getAccessToken();
+
+        // When & Then - 첫 페이지는 20개와 next 링크
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/mypage/post")
+                        .param("page", String.valueOf(0))
+                        .header("Authorization", accessToken)
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.myPostList.length()").value(20))
+                .andExpect(jsonPath("data.myPostList[0].title").value("post title 20"))
+                .andExpect(jsonPath("data.hasNext").value(true))
+                .andExpect(jsonPath("data.links[1].rel").value("next"))
+                .andExpect(jsonPath("data.links[1].href").value(containsString("/api/mypage/post?page=1")));
+
+        // 다음 페이지는 남은 1개, next 링크 없음
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/mypage/post")
+                        .param("page", String.valueOf(1))
+                        .header("Authorization", accessToken)
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.myPostList.length()").value(1))
+                .andExpect(jsonPath("data.myPostList[0].title").value("post title 0"))
+                .andExpect(jsonPath("data.hasNext").value(false))
+                .andExpect(jsonPath("data.links.length()").value(1));
+    }
+
     @Test
     @Transactional
     @DisplayName("내가 생성한 모임 조회 - 정상응답")
@@ -408,6 +463,7 @@ class MyPageControllerTest {
                                         fieldWithPath("data.myMeetingList[].authorImageUrl").description("authorImageUrl of meeting"),
                                         fieldWithPath("data.myMeetingList[].createdAt").description("createdAt of meeting"),
                                         fieldWithPath("data.myMeetingList[].modifiedAt").description("modifiedAt of meeting"),
+                                        fieldWithPath("data.hasNext").description("whether next page exists"),
                                         fieldWithPath("data.links[0].rel").description("relation"),
                                         fieldWithPath("data.links[0].href").description("url of action")
                                 )
@@ -486,12 +542,14 @@ class MyPageControllerTest {
                                         fieldWithPath("data.myHeartPostList[].imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.myHeartPostList[].numHeart").description("numHeart of post"),
                                         fieldWithPath("data.myHeartPostList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.myHeartPostList[].commentCount").description("number of comments of post"),
                                         fieldWithPath("data.myHeartPostList[].authorId").description("authorId of post"),
                                         fieldWithPath("data.myHeartPostList[].authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.myHeartPostList[].authorImageUrl").description("authorImageUrl of post"),
                                         fieldWithPath("data.myHeartPostList[].authorLocation").description("authorLocation of post"),
                                         fieldWithPath("data.myHeartPostList[].createdAt").description("createdAt of post"),
                                         fieldWithPath("data.myHeartPostList[].modifiedAt").description("modifiedAt of post"),
+                                        fieldWithPath("data.hasNext").description("whether next page exists"),
                                         fieldWithPath("data.links[0].rel").description("relation"),
                                         fieldWithPath("data.links[0].href").description("url of action")
                                 )
@@ -502,6 +560,61 @@ class MyPageControllerTest {
 
     }
 
+    @Test
+    @DisplayName("마이페이지 대시보드 조회 - 정상응답")
+    public void getMyDashboard() throws Exception {
+        log.info("마이페이지 대시보드 조회 시작");
+
+        // Given - 섹션은 별도 스레드에서 조회하므로 트랜잭션 없이 저장
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        Post post = Post.builder()
+                .category(RECOMMEND)
+                .title("dashboard post title")
+                .content("dashboard post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(post);
+
+        // When & Then
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/mypage/dashboard")
+                        .header("Authorization", getAccessToken())
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.profile.nickname").value(USERNAME))
+                .andExpect(jsonPath("data.myPost.myPostList[0].title").value("dashboard post title"))
+                .andExpect(jsonPath("data.failedSections").doesNotExist())
+                .andDo(document("{class-name}/{method-name}",
+                                requestHeaders(
+                                        headerWithName(HttpHeaders.ACCEPT).description("accept header"),
+                                        headerWithName(HttpHeaders.AUTHORIZATION).description("access token"),
+                                        headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                                ),
+                                responseHeaders(
+                                        headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                                ),
+                                responseFields(
+                                        fieldWithPath("status").description("status of action"),
+                                        fieldWithPath("message").description("message of action"),
+                                        subsectionWithPath("data.profile").description("my profile, same as my profile response"),
+                                        subsectionWithPath("data.myPost").description("first page of my posts"),
+                                        subsectionWithPath("data.myMeeting").description("first page of my meetings"),
+                                        subsectionWithPath("data.myHeartPost").description("first page of my heart posts"),
+                                        fieldWithPath("data.failedSections").optional().type(JsonFieldType.ARRAY).description("sections omitted by timeout or error"),
+                                        fieldWithPath("data.links[0].rel").description("relation"),
+                                        fieldWithPath("data.links[0].href").description("url of action")
+                                )
+                        )
+                )
+        ;
+        log.info("마이페이지 대시보드 조회 종료");
+
+    }
+
     private String getAccessToken() throws Exception {
         // Given
         LoginRequestDto loginRequestDto = new LoginRequestDto(USERNAME, PASSWORD);
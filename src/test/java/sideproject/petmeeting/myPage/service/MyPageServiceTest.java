@@ -14,6 +14,7 @@ import sideproject.petmeeting.meeting.domain.Meeting;
 import sideproject.petmeeting.meeting.repository.MeetingRepository;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.myPage.dto.MyDashboardDto;
 import sideproject.petmeeting.myPage.dto.MyHeartPostDto;
 import sideproject.petmeeting.myPage.dto.MyMeetingDto;
 import sideproject.petmeeting.myPage.dto.MyPostDto;
@@ -27,6 +28,8 @@ import sideproject.petmeeting.post.repository.PostRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -187,7 +190,7 @@ class MyPageServiceTest {
         postRepository.save(secondPost);
 
         // When
-        MyPostDto myPostDto = myPageService.getMyPost(savedMember);
+        MyPostDto myPostDto = myPageService.getMyPost(savedMember, 0);
 
         // Then
 //        assertThat(myPostDto.getMyPostList().stream().count()).isEqualTo(2);
@@ -234,7 +237,7 @@ class MyPageServiceTest {
         meetingRepository.save(secondMeeting);
 
         // When
-        MyMeetingDto myMeetingDto = myPageService.getMyMeeting(savedMember);
+        MyMeetingDto myMeetingDto = myPageService.getMyMeeting(savedMember, 0);
 
         // Then
         assertThat((long) myMeetingDto.getMyMeetingList().size()).isEqualTo(2);
@@ -277,7 +280,7 @@ class MyPageServiceTest {
         heartPostRepository.save(heartPost);
 
         // When
-        MyHeartPostDto myHeartPostDto = myPageService.getMyHeartPost(savedMember);
+        MyHeartPostDto myHeartPostDto = myPageService.getMyHeartPost(savedMember, 0);
 
         // Then
 //        assertThat((long) myHeartPostDto.getMyHeartPostList().size()).isEqualTo(1);
@@ -285,4 +288,33 @@ class MyPageServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("마이페이지 대시보드 - 스레드 풀이 가득 차 거절된 섹션은 요청 스레드에서 실행하지 않고 실패로 응답")
+    public void getDashboardRejectedTest() {
+        // Given - 모든 작업을 거절하는 스레드 풀
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        AtomicBoolean profileLoaded = new AtomicBoolean();
+        MyPageService profileRecorder = new MyPageService(postRepository, meetingRepository, heartPostRepository,
+                memberRepository, petRepository) {
+            @Override
+            public ProfileDto getProfile(Member member) {
+                profileLoaded.set(true);
+                return super.getProfile(member);
+            }
+        };
+        MyPageDashboardService dashboardService = new MyPageDashboardService(profileRecorder,
+                command -> {
+                    throw new RejectedExecutionException("queue full");
+                }, 2000);
+
+        // When
+        MyDashboardDto myDashboardDto = dashboardService.getDashboard(savedMember);
+
+        // Then
+        assertThat(profileLoaded.get()).isFalse();
+        assertThat(myDashboardDto.getProfile()).isNull();
+        assertThat(myDashboardDto.getMyPost()).isNull();
+        assertThat(myDashboardDto.getFailedSections()).isEqualTo(List.of(MyPageDashboardService.PROFILE,
+                MyPageDashboardService.MY_POST, MyPageDashboardService.MY_MEETING, MyPageDashboardService.MY_HEART_POST));
+    }
+}
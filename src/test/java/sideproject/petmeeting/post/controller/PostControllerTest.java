@@ -32,6 +32,7 @@ import sideproject.petmeeting.post.domain.Post;
 import sideproject.petmeeting.post.dto.PostRequestDto;
 import sideproject.petmeeting.post.repository.HeartPostRepository;
 import sideproject.petmeeting.post.repository.PostRepository;
+import sideproject.petmeeting.post.service.PostViewCountBuffer;
 import sideproject.petmeeting.token.repository.RefreshTokenRepository;
 
 import java.io.FileInputStream;
@@ -79,6 +80,8 @@ class PostControllerTest {
     @Autowired
     private PostRepository postRepository;
     @Autowired
+    private PostViewCountBuffer postViewCountBuffer;
+    @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
 
@@ -178,6 +181,7 @@ class PostControllerTest {
                                         fieldWithPath("data.content").description("content of post"),
                                         fieldWithPath("data.imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.commentCount").description("number of comments of post"),
                                         fieldWithPath("data.numHeart").description("numHeart of post"),
                                         fieldWithPath("data.authorId").description("authorId of post"),
                                         fieldWithPath("data.authorNickname").description("authorNickname of post"),
@@ -283,6 +287,7 @@ class PostControllerTest {
                                         fieldWithPath("data.postList[].imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.postList[].numHeart").description("numHeart of post"),
                                         fieldWithPath("data.postList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.postList[].commentCount").description("number of comments of post"),
                                         fieldWithPath("data.postList[].authorId").description("authorId of post"),
                                         fieldWithPath("data.postList[].authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.postList[].authorLocation").description("authorLocation of post"),
@@ -305,6 +310,81 @@ class PostControllerTest {
     }
 
 
+    @Test
+    @Transactional
+    @DisplayName("게시글 피드 조회(커서 방식) - 정상응답")
+    public void getPostFeed() throws Exception {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        Post firstPost = Post.builder()
+                .category(RECOMMEND)
+                .title("first post title")
+                .content("first post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(firstPost);
+
+        Post secondPost = Post.builder()
+                .category(SHARE)
+                .title("second post title")
+                .content("second post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(secondPost);
+
+        // When & Then
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/post/feed")
+                        .header("Authorization", getAccessToken())
+                        .contentType(APPLICATION_JSON)
+                        .accept(HAL_JSON))
+                .andExpect(status().isOk())
+                .andDo(document("{class-name}/{method-name}",
+                                requestHeaders(
+                                        headerWithName(HttpHeaders.ACCEPT).description("accept header"),
+                                        headerWithName(HttpHeaders.AUTHORIZATION).description("access token"),
+                                        headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                                ),
+                                responseHeaders(
+                                        headerWithName(HttpHeaders.CONTENT_TYPE).description("content type")
+                                ),
+                                responseFields(
+                                        fieldWithPath("status").description("status of action"),
+                                        fieldWithPath("message").description("message of action"),
+                                        fieldWithPath("data.postList[].id").description("id of post"),
+                                        fieldWithPath("data.postList[].category").description("category of post"),
+                                        fieldWithPath("data.postList[].title").description("title of post"),
+                                        fieldWithPath("data.postList[].content").description("content of post"),
+                                        fieldWithPath("data.postList[].imageUrl").description("imageUrl of post"),
+                                        fieldWithPath("data.postList[].numHeart").description("numHeart of post"),
+                                        fieldWithPath("data.postList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.postList[].commentCount").description("number of comments of post"),
+                                        fieldWithPath("data.postList[].authorId").description("authorId of post"),
+                                        fieldWithPath("data.postList[].authorNickname").description("authorNickname of post"),
+                                        fieldWithPath("data.postList[].authorLocation").description("authorLocation of post"),
+                                        fieldWithPath("data.postList[].authorImageUrl").description("authorImageUrl of post"),
+                                        fieldWithPath("data.postList[].createdAt").description("createdAt of post"),
+                                        fieldWithPath("data.postList[].modifiedAt").description("modifiedAt of post"),
+                                        fieldWithPath("data.hasNextPage").description("hasNextPage of postList"),
+                                        fieldWithPath("data.hasPreviousPage").description("hasPreviousPage of postList"),
+                                        fieldWithPath("data.firstPage").description("firstPage of postList"),
+                                        fieldWithPath("data.nextCursor").description("cursor of next page, absent on last page").optional(),
+                                        fieldWithPath("data.links[0].rel").description("relation"),
+                                        fieldWithPath("data.links[0].href").description("url of action")
+                                )
+                        )
+                )
+        ;
+
+    }
+
+
     @Test
     @Transactional
     @DisplayName("단일 게시글 조회 - 정상응답")
@@ -347,6 +427,7 @@ class PostControllerTest {
                                         fieldWithPath("data.content").description("content of post"),
                                         fieldWithPath("data.imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.commentCount").description("number of comments of post"),
                                         fieldWithPath("data.numHeart").description("numHeart of post"),
                                         fieldWithPath("data.authorId").description("authorId of post"),
                                         fieldWithPath("data.authorNickname").description("authorNickname of post"),
@@ -366,7 +447,7 @@ class PostControllerTest {
         assertThat(firstPost.getTitle()).isEqualTo("first post title");
         assertThat(firstPost.getContent()).isEqualTo("first post content");
         assertThat(firstPost.getMember().getNickname()).isEqualTo(USERNAME);
-        assertThat(firstPost.getViewCnt()).isEqualTo(1);
+        assertThat(postViewCountBuffer.getPendingCount(firstPost.getId())).isEqualTo(1);
     }
 
     @Test
@@ -425,10 +506,11 @@ class PostControllerTest {
                         .contentType(APPLICATION_JSON)
                         .accept(HAL_JSON))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("data.viewCnt").value(2))
         ;
 
         // Then
-        assertThat(firstPost.getViewCnt()).isEqualTo(2);
+        assertThat(postViewCountBuffer.getPendingCount(firstPost.getId())).isEqualTo(2);
     }
 
     @Test
@@ -505,6 +587,7 @@ class PostControllerTest {
                                         fieldWithPath("data.imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.numHeart").description("numHeart of post"),
                                         fieldWithPath("data.viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.commentCount").description("number of comments of post"),
                                         fieldWithPath("data.authorId").description("authorId of post"),
                                         fieldWithPath("data.authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.authorLocation").description("authorLocation of post"),
@@ -797,7 +880,6 @@ class PostControllerTest {
     }
 
     @Test
-    @Transactional
     @DisplayName("게시글 검색 - 정상응답")
     public void searchPost() throws Exception {
         // Given
@@ -852,6 +934,7 @@ class PostControllerTest {
                                         fieldWithPath("data.postList[].imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.postList[].numHeart").description("numHeart of post"),
                                         fieldWithPath("data.postList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.postList[].commentCount").description("number of comments of post"),
                                         fieldWithPath("data.postList[].authorId").description("authorId of post"),
                                         fieldWithPath("data.postList[].authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.postList[].authorLocation").description("authorLocation of post"),
@@ -932,6 +1015,7 @@ class PostControllerTest {
                                         fieldWithPath("data.postList[].imageUrl").description("imageUrl of post"),
                                         fieldWithPath("data.postList[].numHeart").description("numHeart of post"),
                                         fieldWithPath("data.postList[].viewCnt").description("viewCnt of post"),
+                                        fieldWithPath("data.postList[].commentCount").description("number of comments of post"),
                                         fieldWithPath("data.postList[].authorId").description("authorId of post"),
                                         fieldWithPath("data.postList[].authorNickname").description("authorNickname of post"),
                                         fieldWithPath("data.postList[].authorLocation").description("authorLocation of post"),
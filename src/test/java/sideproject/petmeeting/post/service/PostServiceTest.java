@@ -7,17 +7,26 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import sideproject.petmeeting.comment.domain.Comment;
+import sideproject.petmeeting.comment.repository.CommentRepository;
+import sideproject.petmeeting.common.exception.BusinessException;
+import sideproject.petmeeting.common.exception.ErrorCode;
 import sideproject.petmeeting.member.domain.Member;
 import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.post.domain.HeartPost;
 import sideproject.petmeeting.post.domain.Post;
 import sideproject.petmeeting.post.dto.PostPageResponseDto;
 import sideproject.petmeeting.post.dto.PostRequestDto;
 import sideproject.petmeeting.post.dto.PostResponseDto;
+import sideproject.petmeeting.post.repository.HeartPostRepository;
 import sideproject.petmeeting.post.repository.PostRepository;
+import sideproject.petmeeting.post.search.PostSearchIndex;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
 import static sideproject.petmeeting.post.domain.Category.RECOMMEND;
 
@@ -35,6 +44,24 @@ class PostServiceTest {
 
     @Autowired
     PostService postService;
+
+    @Autowired
+    PostViewCountBuffer postViewCountBuffer;
+
+    @Autowired
+    PostSearchIndex postSearchIndex;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    PostCommentCountInitializer postCommentCountInitializer;
+
+    @Autowired
+    PostHeartCountInitializer postHeartCountInitializer;
+
+    @Autowired
+    HeartPostRepository heartPostRepository;
     public static final String USERNAME = "postService@Username.com";
     public static final String PASSWORD = "password";
 
@@ -116,6 +143,42 @@ class PostServiceTest {
 
     }
 
+    @Test
+    @Transactional
+    @DisplayName("게시글 피드 커서 조회 테스트 - 정상 응답")
+    public void getPostFeedTest() {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        for (int i = 0; i < 16; i++) {
+            Post post = Post.builder()
+                    .category(RECOMMEND)
+                    .title("feed post title " + i)
+                    .content("feed post content " + i)
+                    .member(savedMember)
+                    .imageUrl("imageUrl")
+                    .numHeart(0)
+                    .viewCnt(0)
+                    .build();
+            postRepository.save(post);
+        }
+
+        // When
+        PostPageResponseDto firstPage = postService.getPostFeed(null);
+        PostPageResponseDto nextPage = postService.getPostFeed(firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getPostList().size()).isEqualTo(15);
+        assertThat(firstPage.isHasNextPage()).isTrue();
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(nextPage.isHasPreviousPage()).isTrue();
+
+        Long lastIdOfFirstPage = firstPage.getPostList().get(14).getId();
+        for (PostResponseDto postResponseDto : nextPage.getPostList()) {
+            assertThat(postResponseDto.getId() < lastIdOfFirstPage).isTrue();
+        }
+    }
+
     @Test
     @Transactional
     @DisplayName("게시글 단일 조회 테스트 - 정상 응답")
@@ -143,6 +206,73 @@ class PostServiceTest {
         assertThat(savedPost.getContent()).isEqualTo("first post content");
     }
 
+    @Test
+    @Transactional
+    @DisplayName("게시글 단일 조회 캐시 테스트 - 수정 시 캐시 삭제")
+    public void getPostCacheEvictTest() throws IOException {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        Post firstPost = Post.builder()
+                .category(RECOMMEND)
+                .title("first post title")
+                .content("first post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(firstPost);
+
+        postService.getPost(firstPost.getId());
+
+        PostRequestDto postRequestDto = PostRequestDto.builder()
+                .category(RECOMMEND)
+                .title("수정된 제목입니다.")
+                .content("수정된 내용입니다.")
+                .build();
+
+        // When
+        postService.updatePost(firstPost.getId(), postRequestDto, null, savedMember);
+        PostResponseDto cachedPost = postService.getPost(firstPost.getId());
+
+        // Then
+        assertThat(cachedPost.getTitle()).isEqualTo("수정된 제목입니다.");
+        assertThat(cachedPost.getViewCnt()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("게시글 조회수 반영 테스트 - 정상 응답")
+    public void flushViewCountTest() {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        Post firstPost = Post.builder()
+                .category(RECOMMEND)
+                .title("first post title")
+                .content("first post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(firstPost);
+
+        postService.getPost(firstPost.getId());
+        postService.getPost(firstPost.getId());
+
+        // When
+        postViewCountBuffer.flush();
+
+        // Then
+        Post flushedPost = postRepository.findById(firstPost.getId()).orElseThrow();
+        assertThat(flushedPost.getViewCnt()).isEqualTo(2);
+        assertThat(postViewCountBuffer.getPendingCount(firstPost.getId())).isEqualTo(0L);
+        // 캐시를 지우지 않아도 반영된 조회수가 응답에 포함
+        assertThat(postService.getPost(firstPost.getId()).getViewCnt()).isEqualTo(3);
+    }
+
     @Test
     @Transactional
     @DisplayName("게시글 수정 테스트 - 정상 응답")
@@ -205,4 +335,141 @@ class PostServiceTest {
 
     }
 
+    @Test
+    @Transactional
+    @DisplayName("게시글 좋아요 테스트 - 중복 좋아요")
+    public void addPostHeartDuplicateTest() {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+
+        Post firstPost = Post.builder()
+                .category(RECOMMEND)
+                .title("first post title")
+                .content("first post content")
+                .member(savedMember)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+        postRepository.save(firstPost);
+
+        postService.addPostHeart(firstPost.getId(), savedMember);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> postService.addPostHeart(firstPost.getId(), savedMember));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ALREADY_HEARTED);
+    }
+
+    @Test
+    @DisplayName("게시글 검색 테스트 - 정상 응답")
+    public void searchPostTest() {
+        // Given - 색인은 커밋 후 반영되므로 트랜잭션 없이 저장
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Post contentPost = postRepository.save(searchPost("주말 모임 후기", "한강공원 산책로 추천합니다.", savedMember));
+        Post titlePost = postRepository.save(searchPost("한강공원 산책로", "강아지와 걷기 좋아요.", savedMember));
+
+        try {
+            // When
+            PostPageResponseDto searchResult = postService.searchPost("산책로", 0);
+
+            // Then
+            assertThat(searchResult.getTotalPost()).isEqualTo(2L);
+            assertThat(searchResult.getPostList().get(0).getId()).isEqualTo(titlePost.getId());
+            assertThat(searchResult.getPostList().get(1).getId()).isEqualTo(contentPost.getId());
+        } finally {
+            postRepository.deleteAll(List.of(contentPost, titlePost));
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("게시글 검색 테스트 - 커밋되지 않은 게시글은 색인되지 않음")
+    public void searchPostUncommittedTest() {
+        // Given
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        postRepository.saveAndFlush(searchPost("롤백 게시글", "색인되면 안되는 내용", savedMember));
+
+        // When & Then
+        assertThat(postSearchIndex.search("롤백").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("게시글 검색 테스트 - DB 에 없는 게시글은 색인에서 삭제")
+    public void searchPostPruneTest() {
+        // Given - 일괄 삭제(엔티티 콜백 없음)로 색인에만 남은 게시글
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Post stalePost = postRepository.save(searchPost("반려견 놀이터 추천", "놀이터", savedMember));
+        Post livePost = postRepository.save(searchPost("반려견 놀이터 후기", "놀이터", savedMember));
+        postRepository.deleteAllInBatch(List.of(stalePost));
+
+        try {
+            // When
+            PostPageResponseDto searchResult = postService.searchPost("놀이터", 0);
+
+            // Then
+            assertThat(searchResult.getTotalPost()).isEqualTo(1L);
+            assertThat(searchResult.getPostList().get(0).getId()).isEqualTo(livePost.getId());
+            assertThat(postSearchIndex.search("놀이터").contains(stalePost.getId())).isFalse();
+        } finally {
+            postRepository.deleteAll(List.of(livePost));
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("게시글 댓글 수 보정 - 댓글 테이블 기준으로 다시 계산")
+    public void backfillCommentCount() {
+        // Given - 댓글 수 컬럼 추가 전에 저장된 댓글
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Post post = postRepository.save(searchPost("댓글 수 보정", "댓글 수 보정", savedMember));
+        for (int i = 0; i < 2; i++) {
+            commentRepository.save(Comment.builder()
+                    .post(post)
+                    .member(savedMember)
+                    .content("comment " + i)
+                    .build());
+        }
+
+        // When
+        postCommentCountInitializer.backfill();
+
+        // Then
+        assertThat(postRepository.findCommentCountById(post.getId())).contains(2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("게시글 좋아요 수 보정 - 좋아요 테이블 기준으로 다시 계산")
+    public void backfillNumHeart() {
+        // Given - 좋아요 수가 좋아요 테이블과 맞지 않는 게시글
+        Member savedMember = memberRepository.findByNickname(USERNAME).orElseThrow();
+        Post post = postRepository.save(searchPost("좋아요 수 보정", "좋아요 수 보정", savedMember));
+        heartPostRepository.save(HeartPost.builder()
+                .post(post)
+                .member(savedMember)
+                .build());
+        postRepository.increaseNumHeart(post.getId());
+        postRepository.increaseNumHeart(post.getId());
+
+        // When
+        postHeartCountInitializer.backfill();
+
+        // Then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getNumHeart()).isEqualTo(1);
+        assertThat(heartPostRepository.findDuplicateIds()).isEmpty();
+    }
+
+    private Post searchPost(String title, String content, Member member) {
+        return Post.builder()
+                .category(RECOMMEND)
+                .title(title)
+                .content(content)
+                .member(member)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package sideproject.petmeeting.timeline.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import sideproject.petmeeting.follow.domain.Follow;
+import sideproject.petmeeting.follow.domain.dto.FollowRequestDto;
+import sideproject.petmeeting.follow.repository.FollowRepository;
+import sideproject.petmeeting.follow.service.FollowService;
+import sideproject.petmeeting.member.domain.Member;
+import sideproject.petmeeting.member.repository.MemberRepository;
+import sideproject.petmeeting.post.domain.Post;
+import sideproject.petmeeting.post.dto.PostPageResponseDto;
+import sideproject.petmeeting.post.repository.PostRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sideproject.petmeeting.member.domain.UserRole.ROLE_MEMBER;
+import static sideproject.petmeeting.post.domain.Category.RECOMMEND;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TimelineServiceTest {
+
+    @Autowired
+    TimelineService timelineService;
+    @Autowired
+    TimelineWriter timelineWriter;
+    @Autowired
+    FollowService followService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    FollowRepository followRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private Member reader;
+    private Member author;
+    private Member otherAuthor;
+    private Follow follow;
+
+    @BeforeEach
+    void setup() {
+        reader = memberRepository.save(member("timelineReader@Username.com"));
+        author = memberRepository.save(member("timelineAuthor@Username.com"));
+        otherAuthor = memberRepository.save(member("timelineOtherAuthor@Username.com"));
+        follow = followRepository.save(Follow.builder()
+                .follower(reader)
+                .following(author)
+                .build());
+    }
+
+    @AfterEach
+    void after() {
+        ReflectionTestUtils.setField(timelineWriter, "maxFanOutFollowers", 1000L);
+        stringRedisTemplate.delete(TimelineWriter.CELEBRITY_KEY);
+        for (Member member : new Member[]{reader, author, otherAuthor}) {
+            stringRedisTemplate.delete(TimelineWriter.TIMELINE_KEY + member.getId());
+            stringRedisTemplate.delete("follow:following:" + member.getId());
+            stringRedisTemplate.delete("follow:version:" + member.getId());
+        }
+        followRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 처음 조회 시 DB 에서 적재, 이후 새 게시글은 팔로워 타임라인에 추가")
+    void getTimeline() {
+        // Given
+        Post firstPost = postRepository.save(post(author, "first post"));
+
+        // When
+        PostPageResponseDto firstTimeline = timelineService.getTimeline(reader, null);
+
+        Post secondPost = postRepository.save(post(author, "second post"));
+        timelineWriter.publish(author.getId(), secondPost.getId());
+        PostPageResponseDto secondTimeline = timelineService.getTimeline(reader, null);
+
+        // Then
+        assertThat(firstTimeline.getPostList()).hasSize(1);
+        assertThat(firstTimeline.getPostList().get(0).getId()).isEqualTo(firstPost.getId());
+        assertThat(secondTimeline.getPostList()).hasSize(2);
+        assertThat(secondTimeline.getPostList().get(0).getId()).isEqualTo(secondPost.getId());
+        assertThat(secondTimeline.isHasNextPage()).isFalse();
+        assertThat(timeline()).containsExactly(
+                String.valueOf(secondPost.getId()), String.valueOf(firstPost.getId()), TimelineWriter.LOADED);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 커서로 다음 페이지 조회")
+    void getTimelineNextPage() {
+        // Given
+        timelineService.getTimeline(reader, null);
+        for (int i = 0; i < 20; i++) {
+            Post post = postRepository.save(post(author, "post " + i));
+            timelineWriter.publish(author.getId(), post.getId());
+        }
+
+        // When
+        PostPageResponseDto firstPage = timelineService.getTimeline(reader, null);
+        PostPageResponseDto secondPage = timelineService.getTimeline(reader, firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getPostList()).hasSize(15);
+        assertThat(firstPage.getPostList().get(0).getTitle()).isEqualTo("post 19");
+        assertThat(firstPage.isHasNextPage()).isTrue();
+        assertThat(secondPage.getPostList()).hasSize(5);
+        assertThat(secondPage.getPostList().get(0).getTitle()).isEqualTo("post 4");
+        assertThat(secondPage.isHasNextPage()).isFalse();
+        assertThat(timeline()).hasSize(21);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 타임라인 적재 후 팔로우 하면 다시 적재해 팔로우 한 회원의 게시글 포함")
+    void getTimelineAfterFollow() {
+        // Given
+        Post authorPost = postRepository.save(post(author, "author post"));
+        Post otherPost = postRepository.save(post(otherAuthor, "other author post"));
+        timelineService.getTimeline(reader, null);
+
+        // When
+        followService.follow(new FollowRequestDto(otherAuthor.getId()), reader);
+        boolean invalidated = !Boolean.TRUE.equals(stringRedisTemplate.hasKey(TimelineWriter.TIMELINE_KEY + reader.getId()));
+        PostPageResponseDto timeline = timelineService.getTimeline(reader, null);
+
+        // Then
+        assertThat(invalidated).isTrue();
+        assertThat(timeline.getPostList()).extracting("id").containsExactly(otherPost.getId(), authorPost.getId());
+        assertThat(timeline()).containsExactly(
+                String.valueOf(otherPost.getId()), String.valueOf(authorPost.getId()), TimelineWriter.LOADED);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 팔로우 취소하면 다시 적재해 취소한 회원의 게시글 제외")
+    void getTimelineAfterUnfollow() {
+        // Given
+        postRepository.save(post(author, "author post"));
+        PostPageResponseDto before = timelineService.getTimeline(reader, null);
+
+        // When
+        followService.unfollow(follow.getId(), reader);
+        PostPageResponseDto after = timelineService.getTimeline(reader, null);
+
+        // Then
+        assertThat(before.getPostList()).hasSize(1);
+        assertThat(after.getPostList()).isEmpty();
+        assertThat(timeline()).containsExactly(TimelineWriter.LOADED);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 - 팔로워가 많은 작성자의 게시글은 조회 시 DB 에서 조회, 팔로워가 줄면 다시 fan-out")
+    void getTimelineCelebrity() {
+        // Given
+        timelineService.getTimeline(reader, null);
+        ReflectionTestUtils.setField(timelineWriter, "maxFanOutFollowers", -1L);
+        Post celebrityPost = postRepository.save(post(author, "celebrity post"));
+        timelineWriter.publish(author.getId(), celebrityPost.getId());
+
+        // When
+        PostPageResponseDto celebrityTimeline = timelineService.getTimeline(reader, null);
+
+        ReflectionTestUtils.setField(timelineWriter, "maxFanOutFollowers", 1000L);
+        Post post = postRepository.save(post(author, "post"));
+        timelineWriter.publish(author.getId(), post.getId());
+        boolean celebrity = Boolean.TRUE.equals(
+                stringRedisTemplate.opsForSet().isMember(TimelineWriter.CELEBRITY_KEY, String.valueOf(author.getId())));
+        PostPageResponseDto timeline = timelineService.getTimeline(reader, null);
+
+        // Then
+        assertThat(celebrityTimeline.getPostList()).extracting("id").containsExactly(celebrityPost.getId());
+        assertThat(celebrity).isFalse();
+        assertThat(timeline.getPostList()).extracting("id").containsExactly(post.getId(), celebrityPost.getId());
+        assertThat(timeline()).containsExactly(
+                String.valueOf(post.getId()), String.valueOf(celebrityPost.getId()), TimelineWriter.LOADED);
+    }
+
+    private List<String> timeline() {
+        return stringRedisTemplate.opsForList().range(TimelineWriter.TIMELINE_KEY + reader.getId(), 0, -1);
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .nickname(nickname)
+                .password("password")
+                .email(nickname)
+                .image("test-image")
+                .userRole(ROLE_MEMBER)
+                .build();
+    }
+
+    private Post post(Member writer, String title) {
+        return Post.builder()
+                .category(RECOMMEND)
+                .title(title)
+                .content("timeline content")
+                .member(writer)
+                .imageUrl("imageUrl")
+                .numHeart(0)
+                .viewCnt(0)
+                .build();
+    }
+}